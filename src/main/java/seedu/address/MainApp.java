@@ -2,11 +2,19 @@ package seedu.address;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -17,22 +25,27 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.CommandHistory;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCommandHistory;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookLoader;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
 import seedu.address.storage.CommandHistoryStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -43,6 +56,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 0, true);
 
+    /** The number of persons added to the model at a time while the address book is loaded. */
+    private static final int LOADING_BATCH_SIZE = 500;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -61,41 +77,81 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         CommandHistoryStorage commandHistoryStorage = new TextCommandHistoryStorage(config.getCommandHistoryFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage);
+        storage = new WriteBehindStorage(
+                new StorageManager(addressBookStorage, userPrefsStorage, commandHistoryStorage));
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        logic.startLoading();
 
         ui = new UiManager(logic);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns the storage for the address book in the format chosen in {@code userPrefs}. <br>
+     * If the address book was last saved in another format, it is converted first, so that changing the format
+     * keeps the data.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialAddressBookData;
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(jsonFilePath);
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        // the journal is kept next to a json snapshot, so an address book journalled before reads as json with it
+        JournalAddressBookStorage journalStorage = new JournalAddressBookStorage(jsonFilePath);
+        AddressBookStorage jsonStorage = format == AddressBookFormat.JOURNAL
+                ? journalStorage
+                : new JsonAddressBookStorage(jsonFilePath);
+        BinaryAddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+        long jsonLastModified = getLastModified(jsonFilePath, journalFilePath);
+        long binaryLastModified = getLastModified(binaryStorage.getAddressBookFilePath());
+        boolean isBinary = format == AddressBookFormat.BINARY;
+
         try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
+            if (isBinary && jsonLastModified > binaryLastModified) {
+                logger.info("Converting " + jsonFilePath + " to " + binaryStorage.getAddressBookFilePath());
+                binaryStorage.importFrom(journalStorage);
+            } else if (!isBinary && binaryLastModified > jsonLastModified) {
+                logger.info("Converting " + binaryStorage.getAddressBookFilePath() + " to " + jsonFilePath);
+                binaryStorage.exportTo(jsonStorage);
+            } else if (format == AddressBookFormat.JSON && Files.exists(journalFilePath)) {
+                logger.info("Applying " + journalFilePath + " to " + jsonFilePath);
+                journalStorage.exportTo(jsonStorage);
             }
-            initialAddressBookData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialAddressBookData = new AddressBook();
-        } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialAddressBookData = new AddressBook();
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert the address book to " + format + ": " + StringUtil.getDetails(e));
         }
+        return isBinary ? binaryStorage : jsonStorage;
+    }
 
+    /**
+     * Returns the time the latest of {@code files} was modified, in milliseconds since the epoch,
+     * or -1 if none of them exist.
+     */
+    private static long getLastModified(Path... files) {
+        long lastModified = -1;
+        for (Path file : files) {
+            try {
+                if (Files.exists(file)) {
+                    lastModified = Math.max(lastModified, Files.getLastModifiedTime(file).toMillis());
+                }
+            } catch (IOException e) {
+                logger.warning("Failed to read the modification time of " + file + ": " + StringUtil.getDetails(e));
+            }
+        }
+        return lastModified;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with an empty address book, the command history from {@code storage}
+     * and {@code userPrefs}. The address book is loaded once the UI has started, see {@link #loadAddressBook()}.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         ReadOnlyCommandHistory initialCommandHistoryData;
         try {
             initialCommandHistoryData = storage.readCommandHistory();
@@ -104,7 +160,99 @@ public class MainApp extends Application {
                     + " Will be starting with an empty CommandHistory");
             initialCommandHistoryData = new CommandHistory();
         }
-        return new ModelManager(initialAddressBookData, userPrefs, initialCommandHistoryData);
+        return new ModelManager(new AddressBook(), userPrefs, initialCommandHistoryData);
+    }
+
+    /**
+     * Loads the persons in {@code storage}'s address book into {@code loader}, as they are read. <br>
+     * The persons of the sample address book will be loaded instead if {@code storage}'s address book is not found,
+     * or none will be loaded if errors occur when reading {@code storage}'s address book.
+     */
+    private void loadInitialAddressBook(Storage storage, AddressBookLoader loader) {
+        try {
+            if (!storage.readAddressBook(loader)) {
+                logger.info("Data file not found. Will be starting with a sample AddressBook");
+                loader.load(new ArrayList<>(SampleDataUtil.getSampleAddressBook().getPersonList()));
+            }
+        } catch (DataConversionException e) {
+            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
+            loader.discard();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
+            loader.discard();
+        }
+    }
+
+    /**
+     * Reads the address book on a background thread and adds its persons to the model in batches on the JavaFX
+     * application thread, as they are read, so that the main window can be used, and the persons loaded so far
+     * seen, while a large address book is read. Commands that depend on the persons are queued by {@code logic}
+     * until it is done. If the persons cannot all be added, {@code logic} is left loading, so that the partly
+     * loaded address book is never saved over the data file, and the app is shut down.
+     */
+    private void loadAddressBook() {
+        Thread loader = new Thread(() -> {
+            try {
+                ModelLoader modelLoader = new ModelLoader();
+                loadInitialAddressBook(storage, modelLoader);
+                runOnApplicationThread(() -> {
+                    logger.info("Loaded " + modelLoader.loadedCount + " persons");
+                    model.updateCalendarEventList();
+                    ui.handleAddressBookLoaded(logic.finishLoading());
+                });
+            } catch (CancellationException e) {
+                // interrupted as the app is stopping
+            } catch (CompletionException e) {
+                Platform.runLater(() -> ui.handleAddressBookLoadFailed(e.getCause()));
+            } catch (RuntimeException e) {
+                Platform.runLater(() -> ui.handleAddressBookLoadFailed(e));
+            }
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX application thread and waits for it to finish, so that the thread can
+     * update the UI between actions.
+     *
+     * @throws CompletionException if {@code action} threw an exception, which is its cause.
+     * @throws CancellationException if interrupted while waiting.
+     */
+    private static void runOnApplicationThread(Runnable action) {
+        FutureTask<Void> task = new FutureTask<>(action, null);
+        Platform.runLater(task);
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for the JavaFX application thread");
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    /**
+     * Adds the persons read to the model on the JavaFX application thread, {@code LOADING_BATCH_SIZE} at a time.
+     */
+    private class ModelLoader implements AddressBookLoader {
+        private int loadedCount;
+
+        @Override
+        public void load(List<Person> persons) {
+            for (int i = 0; i < persons.size(); i += LOADING_BATCH_SIZE) {
+                List<Person> batch = new ArrayList<>(persons.subList(i, Math.min(persons.size(),
+                        i + LOADING_BATCH_SIZE)));
+                runOnApplicationThread(() -> model.addPersons(batch));
+            }
+            loadedCount += persons.size();
+        }
+
+        @Override
+        public void discard() {
+            runOnApplicationThread(() -> model.setAddressBook(new AddressBook()));
+            loadedCount = 0;
+        }
     }
 
     private void initLogging(Config config) {
@@ -183,11 +331,17 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        loadAddressBook();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
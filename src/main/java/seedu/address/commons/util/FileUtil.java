@@ -1,17 +1,35 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_EXTENSION = ".bak";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    /** The size from which a file is memory-mapped to be read, below which mapping it costs more than it saves. */
+    private static final long MIN_MAPPED_FILE_SIZE = 1 << 20;
+    private static final boolean IS_WINDOWS = System.getProperty("os.name", "").toLowerCase().startsWith("windows");
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -65,6 +83,23 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Returns a stream to read {@code file} from. A large file is memory-mapped, so that it is read straight
+     * from the operating system's page cache instead of being copied through buffers on the heap.
+     * Files are not mapped on Windows, which keeps a mapped file locked until the mapping is garbage collected,
+     * so the file could not be replaced when it is next written.
+     */
+    public static InputStream newInputStream(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (IS_WINDOWS || size < MIN_MAPPED_FILE_SIZE || size > Integer.MAX_VALUE) {
+                return new BufferedInputStream(Files.newInputStream(file));
+            }
+            // the mapping stays valid after the channel is closed
+            return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
     /**
      * Assumes file exists
      */
@@ -73,11 +108,142 @@ public class FileUtil {
     }
 
     /**
-     * Writes given string to a file.
+     * Writes given string to a file atomically, see {@link #writeAtomically(Path, StreamWriter)}.
      * Will create the file if it does not exist yet.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Returns the path of the backup of the previous contents of {@code file}.
+     */
+    public static Path getBackupPath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_EXTENSION);
+    }
+
+    /**
+     * Writes what {@code writer} writes to {@code file}, so that the file is replaced in a single step.
+     * The new contents are written to a temporary file in the same directory and forced to the disk before the
+     * temporary file is moved in place of {@code file}, so a crash while writing leaves the file as it was,
+     * and a reader sees either the previous contents or the new ones in full.
+     * Will create the file and its parent directories if they do not exist yet.
+     */
+    public static void writeAtomically(Path file, StreamWriter writer) throws IOException {
+        writeAtomically(file, writer, false);
+    }
+
+    /**
+     * Writes what {@code writer} writes to {@code file} atomically, as {@link #writeAtomically(Path, StreamWriter)}
+     * does, and keeps the previous contents at {@link #getBackupPath(Path)}.
+     * Meant for data files that cannot be recreated, since every write also replaces the backup.
+     */
+    public static void writeAtomicallyWithBackup(Path file, StreamWriter writer) throws IOException {
+        writeAtomically(file, writer, true);
+    }
+
+    private static void writeAtomically(Path file, StreamWriter writer, boolean isBackupKept) throws IOException {
+        createParentDirsOfFile(file);
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName() + ".", TEMP_FILE_EXTENSION);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
+                    OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+                writer.write(out);
+                out.flush();
+                channel.force(true);
+            }
+            if (isBackupKept && Files.exists(file)) {
+                keepBackup(file);
+            }
+            moveAtomically(tempFile, file);
+            forceDirectory(directory);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Keeps the current contents of {@code file} as its backup, sharing them with the file where possible.
+     */
+    private static void keepBackup(Path file) throws IOException {
+        Path backup = getBackupPath(file);
+        Files.deleteIfExists(backup);
+        try {
+            Files.createLink(backup, file);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(file, backup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it survives a crash.
+     * Not every platform can open a directory for this, in which case it is left to the file system.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move is still atomic, only not yet durable
+        }
+    }
+
+    /**
+     * An {@code InputStream} over the remaining bytes of a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            Objects.checkFromIndexSize(offset, length, bytes.length);
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long count) {
+            int skipped = (int) Math.max(0, Math.min(count, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * Writes the contents of a file to the stream it is given, which it should not close.
+     */
+    @FunctionalInterface
+    public interface StreamWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
@@ -3,18 +3,28 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +32,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -110,6 +121,94 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Writes a JSON object holding a single array named {@code arrayName} to {@code out}, converting each of
+     * the {@code elements} with {@code toJsonAdapted} just before it is written. Unlike {@link #toJsonString},
+     * only one element is held in its JSON form at a time. {@code out} is flushed but not closed.
+     */
+    public static <E> void writeJsonArray(OutputStream out, String arrayName, Collection<E> elements,
+            Function<? super E, ?> toJsonAdapted) throws IOException {
+        requireNonNull(out);
+        requireNonNull(arrayName);
+        requireNonNull(elements);
+
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.useDefaultPrettyPrinter();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart(arrayName);
+            for (E element : elements) {
+                elementWriter.writeValue(generator, toJsonAdapted.apply(element));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads the elements of the array named {@code arrayName} in the JSON object in {@code in}, passing each
+     * to {@code consumer} as soon as it is read, so that only one element is held in its JSON form at a time.
+     * Other fields of the object are skipped. {@code in} is not closed.
+     *
+     * @throws IOException if {@code in} cannot be read or does not hold a JSON object.
+     * @throws IllegalValueException if {@code consumer} rejects an element.
+     */
+    public static <T> void readJsonArray(InputStream in, String arrayName, Class<T> elementClass,
+            ElementConsumer<T> consumer) throws IOException, IllegalValueException {
+        requireNonNull(in);
+        requireNonNull(arrayName);
+        requireNonNull(elementClass);
+        requireNonNull(consumer);
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected " + arrayName + " to be an array");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    consumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+            }
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Expected the JSON object to end");
+            }
+        }
+    }
+
+    /**
+     * Receives the elements read by {@link #readJsonArray}.
+     */
+    @FunctionalInterface
+    public interface ElementConsumer<T> {
+        /**
+         * Receives the next element of the array.
+         *
+         * @throws IllegalValueException if the element is not acceptable.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -38,6 +38,78 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if the {@code sentence} contains any of the {@code words}.
+     *   Ignores case, and a full word match is required. Unlike {@link #containsWordIgnoreCase},
+     *   the sentence is scanned in place, so no intermediate strings are created.
+     * <br>examples:<pre>
+     *       containsAnyWordIgnoreCase("ABc def", {"xyz", "abc"}) == true
+     *       containsAnyWordIgnoreCase("ABc def", {"DEF"}) == true
+     *       containsAnyWordIgnoreCase("ABc def", {"AB"}) == false //not a full word match
+     *       </pre>
+     * @param sentence cannot be null
+     * @param words cannot be null, each word should be a single, trimmed word
+     */
+    public static boolean containsAnyWordIgnoreCase(String sentence, String[] words) {
+        requireNonNull(sentence);
+        requireNonNull(words);
+
+        int length = sentence.length();
+        int wordStart = 0;
+        while (wordStart < length) {
+            if (Character.isWhitespace(sentence.charAt(wordStart))) {
+                wordStart++;
+                continue;
+            }
+            int wordEnd = wordStart;
+            while (wordEnd < length && !Character.isWhitespace(sentence.charAt(wordEnd))) {
+                wordEnd++;
+            }
+            int wordLength = wordEnd - wordStart;
+            for (String word : words) {
+                if (word.length() == wordLength && sentence.regionMatches(true, wordStart, word, 0, wordLength)) {
+                    return true;
+                }
+            }
+            wordStart = wordEnd;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, that is, the least number of
+     * single character insertions, deletions and substitutions that turns one into the other.
+     * Case sensitive.
+     * <br>examples:<pre>
+     *       getEditDistance("JOHN", "JONH") == 2
+     *       getEditDistance("JOHN", "JON") == 1
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     */
+    public static int getEditDistance(String first, String second) {
+        requireNonNull(first);
+        requireNonNull(second);
+
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()];
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -83,4 +155,43 @@ public class StringUtil {
         }
     }
 
+    /**
+     * Returns the value of {@code digits}, a non-empty string of decimal digits, or {@code Long.MAX_VALUE}
+     * if the value is too large for a {@code long}.
+     * e.g. "0" == 0, "123" == 123, "99999999999999999999" == {@code Long.MAX_VALUE}
+     * @throws NullPointerException if {@code digits} is null.
+     * @throws NumberFormatException if {@code digits} is not a non-empty string of decimal digits.
+     */
+    public static long parseUnsignedLongClamped(String digits) {
+        requireNonNull(digits);
+        try {
+            long value = Long.parseLong(digits);
+            if (value < 0 || digits.startsWith("+")) {
+                throw new NumberFormatException("Not a string of decimal digits: " + digits);
+            }
+            return value;
+        } catch (NumberFormatException nfe) {
+            if (!digits.isEmpty() && digits.chars().allMatch(c -> c >= '0' && c <= '9')) {
+                return Long.MAX_VALUE;
+            }
+            throw nfe;
+        }
+    }
+
+    /**
+     * Compares {@code digits} and {@code otherDigits}, two non-empty strings of decimal digits without leading
+     * zeros, by their values. A longer string has the larger value, and strings of the same length are compared
+     * digit by digit.
+     * e.g. "9" < "10", "10" < "11", "99999999999999999999" < "100000000000000000000"
+     * @throws NullPointerException if {@code digits} or {@code otherDigits} is null.
+     */
+    public static int compareUnsignedDigits(String digits, String otherDigits) {
+        requireNonNull(digits);
+        requireNonNull(otherDigits);
+        if (digits.length() != otherDigits.length()) {
+            return Integer.compare(digits.length(), otherDigits.length());
+        }
+        return digits.compareTo(otherDigits);
+    }
+
 }
@@ -12,7 +12,6 @@ import java.util.GregorianCalendar;
 
 import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
 import seedu.address.model.appointment.Date;
@@ -37,6 +36,7 @@ public class CalendarLogic {
     private static final String TEXT_HEADER_STYLE = "-fx-font-size: 15pt; -fx-text-fill: white; "
             + "-fx-background-color: #fff";
 
+    private static final int NUMBER_OF_DAY_CELLS = 42;
     private static final String EMPTY_MESSAGE = "";
     private static final String SUCCESS_MESSAGE = "success";
     private static final String WRONG_FORMAT_MESSAGE = "failure";
@@ -57,12 +57,7 @@ public class CalendarLogic {
         this.logic = logic;
         this.primaryStage = primaryStage;
         this.calendarDisplay = calendarDisplay;
-        ListChangeListener<CalendarEvent> temp = (x) -> {
-            x.next();
-            refresh();
-        };
         this.filteredCalendarEventList = logic.getFilteredCalendarEventList();
-        filteredCalendarEventList.addListener(temp);
     }
 
     //@@author wongyewjon
@@ -73,40 +68,45 @@ public class CalendarLogic {
         calendarMonth = new CalendarMonth(filteredCalendarEventList);
         currentMonth = new GregorianCalendar();
         currentMonth.set(Calendar.DAY_OF_MONTH, 1);
+        // added after the CalendarMonth's own listener, so that its index is invalidated before the redraw
+        ListChangeListener<CalendarEvent> temp = (x) -> {
+            x.next();
+            refresh();
+        };
+        filteredCalendarEventList.addListener(temp);
     }
 
     //@@author wongyewjon
     /**
-     * Fills body of the Calendar with the individual date components.
+     * Fills the header row of the Calendar with the days of the week.
      */
-    public void drawBody() {
-        // Draw days of the week
+    public void drawDayNames() {
         for (int day = 1; day <= 7; day++) {
             Text tDayName = new Text(" " + getDayName(day));
             tDayName.setFill(WHITE);
             calendarDisplay.addToCalendarGrid(tDayName, day - 1, 0);
         }
+    }
 
-        // Draw days in month
-        int currentDay = currentMonth.get(Calendar.DAY_OF_MONTH);
+    //@@author wongyewjon
+    /**
+     * Fills body of the Calendar with the individual date components.
+     * The cells of the body are reused, so only their contents are updated.
+     */
+    public void drawBody() {
         int daysInMonth = currentMonth.getActualMaximum(Calendar.DAY_OF_MONTH);
-        int dayOfWeek = currentMonth.get(Calendar.DAY_OF_WEEK);
-        int row = 1;
-        for (int i = currentDay; i <= daysInMonth; i++) {
-            if (dayOfWeek == 8) {
-                dayOfWeek = 1;
-                row++;
+        int firstCellOfMonth = currentMonth.get(Calendar.DAY_OF_WEEK) - 1;
+        int month = currentMonth.get(Calendar.MONTH) + 1;
+        int year = currentMonth.get(Calendar.YEAR);
+        for (int cellIndex = 0; cellIndex < NUMBER_OF_DAY_CELLS; cellIndex++) {
+            CalendarEventListPanel dayCell = calendarDisplay.getDayCell(cellIndex);
+            int currentDay = cellIndex - firstCellOfMonth + 1;
+            if (currentDay < 1 || currentDay > daysInMonth) {
+                dayCell.clear();
+                continue;
             }
-            ObservableList<CalendarEvent> calendarEventsInDayOfMonth = calendarMonth
-                    .getCalendarEventInDayOfMonth(currentDay, currentMonth.get(Calendar.MONTH) + 1,
-                            currentMonth.get(Calendar.YEAR));
-
-            CalendarEventListPanel calendarEventListPanel = new CalendarEventListPanel(calendarEventsInDayOfMonth,
-                    primaryStage);
-            VBox calendarEventList = calendarEventListPanel.getCalendarEventList(currentDay);
-            calendarDisplay.addToCalendarGrid(calendarEventList, dayOfWeek - 1, row);
-            currentDay++;
-            dayOfWeek++;
+            dayCell.setCalendarDayEvents(currentDay,
+                    calendarMonth.getCalendarEventInDayOfMonth(currentDay, month, year));
         }
     }
 
@@ -136,11 +136,10 @@ public class CalendarLogic {
     //@@author wongyewjon
     /**
      * Refreshes the CalendarEvents.
+     * The CalendarMonth rebuilds its index on its own after the CalendarEvents change.
      */
     public void refresh() {
-        calendarDisplay.resetGridPane();
-        this.calendarMonth = new CalendarMonth(filteredCalendarEventList);
-        calendarDisplay.drawCalendar();
+        drawBody();
     }
 
     //@@author wongyewjon
@@ -148,7 +147,6 @@ public class CalendarLogic {
      * Displays the CalendarEvents in the previous month.
      */
     public void previous() {
-        this.calendarMonth = new CalendarMonth(filteredCalendarEventList);
         currentMonth = getPreviousMonth(currentMonth);
         calendarDisplay.setTextValidation(EMPTY_MESSAGE);
         updateCalendarMonth();
@@ -159,7 +157,6 @@ public class CalendarLogic {
      * Displays the CalendarEvents in the next month.
      */
     public void next() {
-        this.calendarMonth = new CalendarMonth(filteredCalendarEventList);
         currentMonth = getNextMonth(currentMonth);
         calendarDisplay.setTextValidation(EMPTY_MESSAGE);
         updateCalendarMonth();
@@ -170,7 +167,6 @@ public class CalendarLogic {
      * Displays the CalendarEvents given by the user input.
      */
     public void jump() {
-        this.calendarMonth = new CalendarMonth(logic.getFilteredCalendarEventList());
         currentMonth = getJumpMonth(currentMonth);
         updateCalendarMonth();
     }
@@ -205,7 +201,6 @@ public class CalendarLogic {
         Text newMonthHeader = getTextHeader();
         calendarDisplay.setTopCalendarHeader(0, newMonthHeader);
         calendarDisplay.resetMargin(newMonthHeader);
-        calendarDisplay.resetCalendarBody();
         drawBody();
     }
 
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -37,6 +39,27 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of calendarEvents */
     ObservableList<CalendarEvent> getFilteredCalendarEventList();
 
+    /**
+     * Returns up to {@code limit} words of the names of persons that start with {@code prefix}.
+     *
+     * @see seedu.address.model.Model#getNameCompletions(String, int)
+     */
+    List<String> getNameCompletions(String prefix, int limit);
+
+    /**
+     * Returns the number of persons with each risk tag, by tag name.
+     *
+     * @see seedu.address.model.Model#getRiskTagCounts()
+     */
+    Map<String, Integer> getRiskTagCounts();
+
+    /**
+     * Returns the number of persons with each client tag, by tag name.
+     *
+     * @see seedu.address.model.Model#getClientTagCounts()
+     */
+    Map<String, Integer> getClientTagCounts();
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -52,6 +75,19 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Marks the address book as still being loaded. Until {@link #finishLoading()} is called, commands that
+     * depend on the persons in the address book are queued instead of executed, and the address book is not saved.
+     */
+    void startLoading();
+
+    /**
+     * Marks the address book as fully loaded.
+     *
+     * @return the texts of the commands queued while the address book was loading, in the order they were entered.
+     */
+    List<String> finishLoading();
+
     String getPrevInCommandHistory();
     String getNextInCommandHistory();
 }
@@ -2,6 +2,9 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -23,11 +26,15 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_COMMAND_QUEUED =
+            "Clients are still being loaded. \"%s\" will be executed once all clients are loaded.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final List<String> queuedCommandTexts = new ArrayList<>();
+    private boolean isLoading;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -44,7 +51,13 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
+        // once a command is queued, the commands after it are queued too, so that they run in the order entered
+        if (isLoading && (!command.isExecutableWhileLoading() || !queuedCommandTexts.isEmpty())) {
+            queuedCommandTexts.add(commandText);
+            return new CommandResult(String.format(MESSAGE_COMMAND_QUEUED, commandText.trim()));
+        }
         commandResult = command.execute(model);
+        model.updateCalendarEventList();
 
         model.addToCommandHistory(commandText.trim());
         try {
@@ -53,6 +66,10 @@ public class LogicManager implements Logic {
             logger.warning("Unable to save commandHistory");
         }
 
+        if (isLoading) {
+            // the persons not loaded yet would be lost if the address book was saved now
+            return commandResult;
+        }
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
@@ -62,6 +79,19 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    @Override
+    public void startLoading() {
+        isLoading = true;
+    }
+
+    @Override
+    public List<String> finishLoading() {
+        isLoading = false;
+        List<String> commandTexts = new ArrayList<>(queuedCommandTexts);
+        queuedCommandTexts.clear();
+        return commandTexts;
+    }
+
     public String getNextInCommandHistory() {
         return model.getNextCommand();
     }
@@ -85,6 +115,21 @@ public class LogicManager implements Logic {
         return model.getFilteredCalendarEventList();
     }
 
+    @Override
+    public List<String> getNameCompletions(String prefix, int limit) {
+        return model.getNameCompletions(prefix, limit);
+    }
+
+    @Override
+    public Map<String, Integer> getRiskTagCounts() {
+        return model.getRiskTagCounts();
+    }
+
+    @Override
+    public Map<String, Integer> getClientTagCounts() {
+        return model.getClientTagCounts();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_LOCATION;
-import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
 
 import java.util.List;
 
@@ -36,7 +35,7 @@ public class AddAppointmentCommand extends Command {
                                                                         + "scheduled on this date and time";
     public static final String MESSAGE_DATE_FIELD_NOT_INCLUDED = "Date field must be provided.";
     public static final String MESSAGE_MAXIMUM_NUMBER_OF_APPOINTMENTS = "You have already reached the "
-            + "maximum number of appointments (" + MAXIMUM_NUM_OF_APPOINTMENTS + ") for this client";
+            + "maximum number of appointments (%1$d) for this client";
     private final Index index;
     private final Appointment appointment;
 
@@ -65,8 +64,9 @@ public class AddAppointmentCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_APPOINTMENT_DATE_TIME);
         }
 
-        if (appointmentSet.size() == MAXIMUM_NUM_OF_APPOINTMENTS) {
-            throw new CommandException(MESSAGE_MAXIMUM_NUMBER_OF_APPOINTMENTS);
+        int maxAppointments = model.getUserPrefs().getMaxAppointmentsPerClient();
+        if (appointmentSet.size() >= maxAppointments) {
+            throw new CommandException(String.format(MESSAGE_MAXIMUM_NUMBER_OF_APPOINTMENTS, maxAppointments));
         }
 
         appointmentSet.add(appointment);
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if this command can be executed while the address book is still being loaded,
+     * as it does not depend on the persons in the address book.
+     */
+    public boolean isExecutableWhileLoading() {
+        return false;
+    }
+
 }
@@ -18,4 +18,9 @@ public class ExitCommand extends Command {
         return new CommandResult(MESSAGE_EXIT_ACKNOWLEDGEMENT, false, true);
     }
 
+    @Override
+    public boolean isExecutableWhileLoading() {
+        return true;
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENTTAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
@@ -27,12 +28,14 @@ public class FindCommand extends Command {
             + "and displays them as a list with index numbers.\n"
             + "Parameters: PREFIX/ KEYWORD [MORE_KEYWORDS]\n"
             + PREFIX_NAME.getPrefix() + " NAME [MORE_NAMES]...\n"
+            + PREFIX_FUZZY_NAME.getPrefix() + " MISSPELT_NAME [MORE_NAMES]... (closest names first)\n"
             + PREFIX_RISKTAG.getPrefix() + " RISK_APPETITE [MORE_RISK_APPETITES]...\n"
             + PREFIX_CLIENTTAG.getPrefix() + " CLIENT_TYPE [MORE_CLIENT_TYPES]...\n"
             + PREFIX_TAG.getPrefix() + " TAG [MORE_TAGS]...\n"
             + PREFIX_PHONE.getPrefix() + " PHONE [MORE_PHONE]...\n"
             + PREFIX_INCOME.getPrefix() + " >/</= INCOME \n"
             + "Examples: " + COMMAND_WORD + " " + PREFIX_NAME.getPrefix() + " alice bob charlie\n"
+            + COMMAND_WORD + " " + PREFIX_FUZZY_NAME.getPrefix() + " alise\n"
             + COMMAND_WORD + " " + PREFIX_RISKTAG.getPrefix() + " high low\n"
             + COMMAND_WORD + " " + PREFIX_CLIENTTAG.getPrefix() + " potential\n"
             + COMMAND_WORD + " " + PREFIX_PLANTAG.getPrefix() + " savings plan\n"
@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ArgumentMultimap.noPrefixesPresent;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENTTAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTHLY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -22,6 +23,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.ClientTagContainsKeywordsPredicate;
 import seedu.address.model.person.FindPredicate;
+import seedu.address.model.person.FuzzyNameContainsKeywordsPredicate;
 import seedu.address.model.person.IncomeContainsKeywordsPredicate;
 import seedu.address.model.person.MonthlyContainsKeywordsPredicate;
 import seedu.address.model.person.Name;
@@ -55,10 +57,10 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
         List<FindPredicate> predicates = new ArrayList<>();
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_RISKTAG,
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_RISKTAG,
                         PREFIX_PLANTAG, PREFIX_CLIENTTAG, PREFIX_TAG, PREFIX_INCOME, PREFIX_MONTHLY);
 
-        if (noPrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_PHONE, PREFIX_RISKTAG,
+        if (noPrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_FUZZY_NAME, PREFIX_PHONE, PREFIX_RISKTAG,
                 PREFIX_PLANTAG, PREFIX_CLIENTTAG, PREFIX_TAG, PREFIX_INCOME, PREFIX_MONTHLY)
                 || !argMultimap.getPreamble().isEmpty()
                 || arePrefixesPresent(argMultimap, PREFIX_APPOINTMENT_DATE, PREFIX_APPOINTMENT_LOCATION)) {
@@ -71,6 +73,12 @@ public class FindCommandParser implements Parser<FindCommand> {
             predicates.add(new NameContainsKeywordsPredicate(names.stream()
                     .map(x -> x.toString()).collect(Collectors.toList())));
         }
+        if (argMultimap.getValue(PREFIX_FUZZY_NAME).isPresent()) {
+            List<Name> names = ParserUtil.parseAllSpaceSeparatedNames(argMultimap
+                    .getAllValuesSeparatedByRegex(PREFIX_FUZZY_NAME, SPACE_REGEX));
+            predicates.add(new FuzzyNameContainsKeywordsPredicate(names.stream()
+                    .map(x -> x.toString()).collect(Collectors.toList())));
+        }
         if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
             List<Phone> phones = ParserUtil.parseAllSpaceSeparatedPhone(argMultimap
                     .getAllValuesSeparatedByRegex(PREFIX_PHONE, SPACE_REGEX));
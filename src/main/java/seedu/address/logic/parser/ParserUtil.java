@@ -8,7 +8,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_APPOINTMENT_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTHLY;
-import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
@@ -22,6 +21,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
 import seedu.address.model.appointment.DateTime;
 import seedu.address.model.appointment.Location;
 import seedu.address.model.person.Address;
@@ -227,8 +227,7 @@ public class ParserUtil {
      */
     public static MaximumSortedList<Appointment> parseAppointmentsIntoSortedList(Collection<Appointment> appointments) {
         requireNonNull(appointments);
-        final MaximumSortedList<Appointment> appointmentSet =
-                new MaximumSortedList<>(MAXIMUM_NUM_OF_APPOINTMENTS);
+        final MaximumSortedList<Appointment> appointmentSet = new AppointmentList();
         for (Appointment appointment : appointments) {
             appointmentSet.add(appointment);
         }
@@ -296,7 +295,7 @@ public class ParserUtil {
         if (!RiskTag.isValidRiskTagName(trimmedRiskTag)) {
             throw new ParseException(RiskTag.MESSAGE_CONSTRAINTS);
         }
-        return new RiskTag(trimmedRiskTag);
+        return RiskTag.of(trimmedRiskTag);
     }
 
     /**
@@ -309,7 +308,7 @@ public class ParserUtil {
         if (!ClientTag.isValidClientTagName(trimmedClientTag)) {
             throw new ParseException(ClientTag.MESSAGE_CONSTRAINTS);
         }
-        return new ClientTag(trimmedClientTag);
+        return ClientTag.of(trimmedClientTag);
     }
 
     /**
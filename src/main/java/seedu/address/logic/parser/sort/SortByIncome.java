@@ -10,6 +10,7 @@ import seedu.address.model.person.Person;
 public class SortByIncome implements Comparator<Person> {
 
     private final String order;
+    private final boolean isDescending;
 
     /**
      * Constructor that takes in the order to sort the contact book by.
@@ -17,29 +18,13 @@ public class SortByIncome implements Comparator<Person> {
      */
     public SortByIncome(String order) {
         this.order = order;
+        this.isDescending = order.equals("desc");
     }
 
     @Override
     public int compare(Person p1, Person p2) {
-
-        //Since income is Long, have to manually check and return an int
-
-        if (this.order.equals("desc")) {
-            if (p2.getIncome().convertIncomeToLong() > p1.getIncome().convertIncomeToLong()) {
-                return 1;
-            } else if (p2.getIncome().convertIncomeToLong() < p1.getIncome().convertIncomeToLong()) {
-                return -1;
-            }
-            return 0;
-        }
-
-        if (p1.getIncome().convertIncomeToLong() > p2.getIncome().convertIncomeToLong()) {
-            return 1;
-        } else if (p1.getIncome().convertIncomeToLong() < p2.getIncome().convertIncomeToLong()) {
-            return -1;
-        }
-
-        return 0;
+        int ascendingOrder = p1.getIncome().compareTo(p2.getIncome());
+        return isDescending ? -ascendingOrder : ascendingOrder;
     }
 
     @Override
@@ -10,6 +10,7 @@ import seedu.address.model.person.Person;
 public class SortByMonthly implements Comparator<Person> {
 
     private final String order;
+    private final boolean isDescending;
 
     /**
      * Constructor that takes in the order to sort the contact book by.
@@ -17,16 +18,13 @@ public class SortByMonthly implements Comparator<Person> {
      */
     public SortByMonthly(String order) {
         this.order = order;
+        this.isDescending = order.equals("desc");
     }
 
     @Override
     public int compare(Person p1, Person p2) {
-
-        if (this.order.equals("desc")) {
-            return (int) (p2.getMonthly().convertMonthlyToLong() - p1.getMonthly().convertMonthlyToLong());
-        }
-
-        return (int) (p1.getMonthly().convertMonthlyToLong() - p2.getMonthly().convertMonthlyToLong());
+        int ascendingOrder = p1.getMonthly().compareTo(p2.getMonthly());
+        return isDescending ? -ascendingOrder : ascendingOrder;
     }
 
     @Override
@@ -2,12 +2,20 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+import seedu.address.model.person.PersonMatches;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -67,6 +75,59 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(appointment);
         return persons.containsPersonWithSameAppointmentDateTime(appointment);
     }
+
+    /**
+     * Returns the appointment slots booked from {@code from} to {@code to}, both inclusive,
+     * mapped to the persons holding them.
+     */
+    public NavigableMap<LocalDateTime, List<Person>> getBookedSlotsBetween(LocalDateTime from, LocalDateTime to) {
+        return persons.getBookedSlotsBetween(from, to);
+    }
+
+    /**
+     * Returns the persons that pass any of {@code predicates}, looked up in the indexes of the person list,
+     * or an empty {@code Optional} if any of the predicates cannot be looked up.
+     */
+    public Optional<PersonMatches> lookUp(List<? extends Predicate<Person>> predicates) {
+        return persons.lookUp(predicates);
+    }
+
+    /**
+     * Returns the order of the persons in the address book, which compares them by their place in the person list.
+     */
+    public Comparator<Person> getListOrder() {
+        return persons.getListOrder();
+    }
+
+    /**
+     * Returns up to {@code limit} words of the names of persons that start with {@code prefix},
+     * ignoring case, in alphabetical order.
+     */
+    public List<String> getNameCompletions(String prefix, int limit) {
+        return persons.getNameCompletions(prefix, limit);
+    }
+
+    /**
+     * Keeps the index that name completions are answered from up to date as persons change, from now on.
+     */
+    public void keepNameCompletionIndex() {
+        persons.keepNameCompletionIndex();
+    }
+
+    /**
+     * Returns the number of persons with each risk tag, by tag name.
+     */
+    public Map<String, Integer> getRiskTagCounts() {
+        return persons.getRiskTagCounts();
+    }
+
+    /**
+     * Returns the number of persons with each client tag, by tag name.
+     */
+    public Map<String, Integer> getClientTagCounts() {
+        return persons.getClientTagCounts();
+    }
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -83,6 +144,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code persons} to the address book, after the persons already in it.
+     * None of the persons can already exist in the address book or appear in {@code persons} more than once.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -118,6 +187,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return persons.getVersion();
+    }
+
+    @Override
+    public Optional<List<PersonChange>> getChangesSince(long version) {
+        return persons.getChangesSince(version);
+    }
+
+    @Override
+    public Optional<Person> getPerson(Name name) {
+        return persons.getPerson(name);
+    }
+
 
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,16 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book can be stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, which can be edited by hand. */
+    JSON,
+    /** A compact binary encoding, which is smaller and faster to load and save for large address books. */
+    BINARY,
+    /**
+     * Human-readable json, together with a journal of the clients changed since the json was written,
+     * which is faster to save for large address books.
+     */
+    JOURNAL
+}
@@ -1,39 +1,98 @@
 package seedu.address.model;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Represents User's command history.
+ * The commands are kept in a circular buffer of at most the maximum size, so that adding a command to a full
+ * history replaces the oldest command in constant time.
  *
  * @author Gerald Teo Jin Wei
  * @version 1.4
  * @since 2022-11-07
  */
 public class CommandHistory implements ReadOnlyCommandHistory {
-    public static final int MAX_COMMAND_HISTORY_SIZE = 20;
-    private List<String> commandHistoryList = new ArrayList<>();
+    public static final int DEFAULT_MAX_COMMAND_HISTORY_SIZE = 20;
+    public static final int MAXIMUM_MAX_COMMAND_HISTORY_SIZE = 100000;
+    public static final String MESSAGE_MAX_SIZE_CONSTRAINTS =
+            "Maximum command history size should be between 1 and " + MAXIMUM_MAX_COMMAND_HISTORY_SIZE;
+
+    /** The size the buffer starts at, so that a large maximum size costs nothing until the history grows. */
+    private static final int INITIAL_BUFFER_SIZE = 16;
+
+    private final int maxSize;
+    private final List<String> commandHistoryView = new CommandHistoryView();
+    private String[] buffer;
+    private int start = 0;
+    private int size = 0;
     private int currentIndex = 0;
 
     public CommandHistory() {
+        this(DEFAULT_MAX_COMMAND_HISTORY_SIZE);
+    }
+
+    /**
+     * Creates an empty CommandHistory that keeps at most the latest {@code maxSize} commands.
+     */
+    public CommandHistory(int maxSize) {
+        checkArgument(isValidMaxSize(maxSize), MESSAGE_MAX_SIZE_CONSTRAINTS);
+        this.maxSize = maxSize;
+        buffer = new String[Math.min(maxSize, INITIAL_BUFFER_SIZE)];
     }
 
     /**
      * Creates a CommandHistory using the CommandHistoryList in the {@code toBeCopied}
      */
     public CommandHistory(ReadOnlyCommandHistory toBeCopied) {
-        this();
-        setCommandHistoryList(new ArrayList<>(toBeCopied.getCommandHistoryList()));
+        this(toBeCopied, getMaxSizeToKeep(toBeCopied.getCommandHistoryList()));
+    }
+
+    /**
+     * Creates a CommandHistory using the latest {@code maxSize} commands in the {@code toBeCopied}
+     */
+    public CommandHistory(ReadOnlyCommandHistory toBeCopied, int maxSize) {
+        this(maxSize);
+        setCommandHistoryList(toBeCopied.getCommandHistoryList());
+    }
+
+    /**
+     * Returns true if a given number is a valid maximum size of a command history.
+     */
+    public static boolean isValidMaxSize(int maxSize) {
+        return maxSize > 0 && maxSize <= MAXIMUM_MAX_COMMAND_HISTORY_SIZE;
+    }
+
+    /**
+     * Returns the maximum size that keeps every command in {@code commandHistoryList}, or only the latest commands
+     * if there are more than {@code MAXIMUM_MAX_COMMAND_HISTORY_SIZE} of them.
+     */
+    public static int getMaxSizeToKeep(List<String> commandHistoryList) {
+        return Math.min(MAXIMUM_MAX_COMMAND_HISTORY_SIZE,
+                Math.max(DEFAULT_MAX_COMMAND_HISTORY_SIZE, commandHistoryList.size()));
+    }
+
+    public int getMaxSize() {
+        return maxSize;
     }
 
     //// list overwrite operations
 
     /**
-     * Replaces the contents of the commandHistorylist with {@code commandHistoryList}.
+     * Replaces the contents of the commandHistorylist with the latest commands in {@code commandHistoryList},
+     * up to the maximum size.
      */
     public void setCommandHistoryList(List<String> commandHistoryList) {
-        this.commandHistoryList = commandHistoryList;
+        requireNonNull(commandHistoryList);
+        int fromIndex = Math.max(0, commandHistoryList.size() - maxSize);
+        String[] commands = commandHistoryList.subList(fromIndex, commandHistoryList.size()).toArray(new String[0]);
+        buffer = Arrays.copyOf(commands, Math.max(commands.length, Math.min(maxSize, INITIAL_BUFFER_SIZE)));
+        start = 0;
+        size = commands.length;
         resetCurrentIndexToBeyondMaxIndex();
     }
 
@@ -45,19 +104,22 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      * @param commandInput latest valid command entered bu user
      */
     public void addToCommandHistory(String commandInput) {
-        int size = commandHistoryList.size();
-        int latestIndex = size - 1;
-
         // prevent saving of consecutive duplicate commands
-        if (!commandHistoryList.isEmpty()
-                && commandHistoryList.get(latestIndex).equals(commandInput)) {
+        if (size > 0 && get(size - 1).equals(commandInput)) {
             resetCurrentIndexToBeyondMaxIndex();
             return;
         }
-        if (size >= MAX_COMMAND_HISTORY_SIZE) {
-            commandHistoryList.remove(0);
+        if (size == buffer.length && size < maxSize) {
+            grow();
+        }
+        if (size == maxSize) {
+            // the oldest command is overwritten
+            buffer[start] = commandInput;
+            start = (start + 1) % buffer.length;
+        } else {
+            buffer[(start + size) % buffer.length] = commandInput;
+            size++;
         }
-        commandHistoryList.add(commandInput);
         resetCurrentIndexToBeyondMaxIndex();
     }
 
@@ -66,13 +128,13 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      * @return String of previous command
      */
     public String getPrevCommand() {
-        if (commandHistoryList.size() == 0) {
+        if (size == 0) {
             return "";
         }
         if (currentIndex > 0) {
             currentIndex--;
         }
-        return commandHistoryList.get(currentIndex);
+        return get(currentIndex);
     }
 
     /**
@@ -80,7 +142,7 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      * @return String of next command
      */
     public String getNextCommand() {
-        int maxZeroBasedIndex = commandHistoryList.size() - 1;
+        int maxZeroBasedIndex = size - 1;
 
         // String shown at maxZeroBasedIndex + 1 will be empty
         if (currentIndex >= maxZeroBasedIndex) {
@@ -89,7 +151,7 @@ public class CommandHistory implements ReadOnlyCommandHistory {
         }
 
         currentIndex++;
-        return commandHistoryList.get(currentIndex);
+        return get(currentIndex);
     }
 
     // util methods
@@ -99,7 +161,7 @@ public class CommandHistory implements ReadOnlyCommandHistory {
      */
     public void resetCurrentIndexToBeyondMaxIndex() {
         // reset to max index + 1 to show empty string
-        currentIndex = commandHistoryList.size();
+        currentIndex = size;
     }
 
     /**
@@ -120,25 +182,62 @@ public class CommandHistory implements ReadOnlyCommandHistory {
     }
 
     /**
-     * Returns an unmodifiable command history list
+     * Returns an unmodifiable view of the command history list, from the oldest command to the latest.
+     * The view reflects later changes to the command history.
      * @return Unmodifiable commandhistory list
      */
     @Override
     public List<String> getCommandHistoryList() {
-        return Collections.unmodifiableList(commandHistoryList);
+        return commandHistoryView;
     }
 
+    /**
+     * Returns the command at {@code index}, counting from the oldest command.
+     */
+    private String get(int index) {
+        return buffer[(start + index) % buffer.length];
+    }
+
+    /**
+     * Doubles the buffer, up to the maximum size, moving the oldest command to the start of the buffer.
+     */
+    private void grow() {
+        String[] grownBuffer = new String[(int) Math.min(maxSize, 2L * buffer.length)];
+        for (int i = 0; i < size; i++) {
+            grownBuffer[i] = get(i);
+        }
+        buffer = grownBuffer;
+        start = 0;
+    }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof CommandHistory // instanceof handles nulls
-                && commandHistoryList.equals(((CommandHistory) other).commandHistoryList))
+                && commandHistoryView.equals(((CommandHistory) other).commandHistoryView))
                 && currentIndex == (((CommandHistory) other).currentIndex);
     }
 
     @Override
     public int hashCode() {
-        return commandHistoryList.hashCode();
+        return commandHistoryView.hashCode();
+    }
+
+    /**
+     * An unmodifiable view of the commands in the buffer, from the oldest to the latest.
+     */
+    private class CommandHistoryView extends AbstractList<String> {
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return CommandHistory.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
     }
 }
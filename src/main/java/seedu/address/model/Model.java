@@ -1,8 +1,11 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -63,6 +66,28 @@ public interface Model {
 
     boolean hasPersonWithSameAppointmentDateTime(Appointment appointment);
 
+    /**
+     * Returns a read-only view of the appointment slots booked from {@code from} to {@code to}, both inclusive,
+     * mapped to the persons holding them.
+     */
+    NavigableMap<LocalDateTime, List<Person>> getBookedSlotsBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns up to {@code limit} words of the names of persons in the address book that start with
+     * {@code prefix}, ignoring case, in alphabetical order.
+     */
+    List<String> getNameCompletions(String prefix, int limit);
+
+    /**
+     * Returns the number of persons in the address book with each risk tag, by tag name.
+     */
+    Map<String, Integer> getRiskTagCounts();
+
+    /**
+     * Returns the number of persons in the address book with each client tag, by tag name.
+     */
+    Map<String, Integer> getClientTagCounts();
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -75,6 +100,13 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons, after the persons already in the address book, without changing
+     * the filter of the filtered person list.
+     * None of {@code persons} can already exist in the address book or appear more than once.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -91,10 +123,18 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Narrows down the filtered person list to the persons in it that match any of the given {@code predicates}.
+     * @throws NullPointerException if {@code predicates} is null.
+     */
     void updateFilteredPersonList(List<? extends Predicate<Person>> predicates);
 
     void sortPerson(Comparator<Person> comparator);
 
+    /**
+     * Returns an unmodifiable view of the calendar events of the persons in the filtered person list,
+     * sorted by date time.
+     */
     ObservableList<CalendarEvent> getFilteredCalendarEventList();
 
 
@@ -106,5 +146,9 @@ public interface Model {
 
     String getPrevCommand();
 
+    /**
+     * Brings the calendar event list up to date with the changes to the filtered person list
+     * and their appointments, as a single change to the calendar event list.
+     */
     void updateCalendarEventList();
 }
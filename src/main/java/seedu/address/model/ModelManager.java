@@ -4,21 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.calendar.CalendarEvent;
+import seedu.address.model.calendar.CalendarEventList;
+import seedu.address.model.person.CombinedFindPredicate;
+import seedu.address.model.person.FindPredicate;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.SamePersonPredicate;
+import seedu.address.model.person.PersonMatches;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -28,9 +39,11 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
+    private final ObservableList<Person> filteredPersons = FXCollections.observableArrayList();
+    private final SortedList<Person> rankedFilteredPersons;
+    private Predicate<Person> filterPredicate = PREDICATE_SHOW_ALL_PERSONS;
     private final CommandHistory commandHistory;
-    private final ObservableList<CalendarEvent> calendarEventList;
+    private final CalendarEventList calendarEventList;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -42,10 +55,14 @@ public class ModelManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        // kept up to date as the persons are loaded, so that completing a name never has to build it
+        this.addressBook.keepNameCompletionIndex();
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        this.commandHistory = new CommandHistory(commandHistory);
-        this.calendarEventList = FXCollections.observableArrayList();
+        filteredPersons.setAll(this.addressBook.getPersonList());
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) this::updateFilteredPersons);
+        rankedFilteredPersons = new SortedList<>(filteredPersons);
+        this.commandHistory = new CommandHistory(commandHistory, this.userPrefs.getMaxCommandHistorySize());
+        this.calendarEventList = new CalendarEventList(filteredPersons);
     }
 
     public ModelManager() {
@@ -110,6 +127,29 @@ public class ModelManager implements Model {
         requireNonNull(appointment);
         return addressBook.hasPersonWithSameAppointmentDateTime(appointment);
     }
+
+    @Override
+    public NavigableMap<LocalDateTime, List<Person>> getBookedSlotsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getBookedSlotsBetween(from, to);
+    }
+
+    @Override
+    public List<String> getNameCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.getNameCompletions(prefix, limit);
+    }
+
+    @Override
+    public Map<String, Integer> getRiskTagCounts() {
+        return addressBook.getRiskTagCounts();
+    }
+
+    @Override
+    public Map<String, Integer> getClientTagCounts() {
+        return addressBook.getClientTagCounts();
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -121,6 +161,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -131,6 +177,7 @@ public class ModelManager implements Model {
     @Override
     public void sortPerson(Comparator<Person> comparator) {
         addressBook.sortPersons(comparator);
+        rankedFilteredPersons.setComparator(null);
     }
     //=========== Filtered Person List Accessors =============================================================
 
@@ -140,46 +187,131 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return rankedFilteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filterPredicate = predicate;
+        refilterPersons();
+        rankedFilteredPersons.setComparator(null);
     }
 
     @Override
     public void updateFilteredPersonList(List<? extends Predicate<Person>> predicates) {
         requireNonNull(predicates);
-        int size = predicates.size();
-        HashSet<Person> newPersons = new HashSet<>();
-        for (int i = 0; i < size; i++) {
-            ObservableList<Person> test = FXCollections.observableArrayList();
-            filteredPersons.forEach(test::add);
-            FilteredList<? extends Person> filteredPersonsCopy = new FilteredList<>(test);
-            filteredPersonsCopy.setPredicate(predicates.get(i));
-            filteredPersonsCopy.stream().forEach(newPersons::add);
+        boolean isShowingAllPersons = filterPredicate == PREDICATE_SHOW_ALL_PERSONS;
+        Optional<PersonMatches> matches = addressBook.lookUp(predicates);
+        List<Person> narrowedPersons;
+        if (matches.isPresent() && isShowingAllPersons) {
+            // listed straight from the persons looked up, without looking at the persons that did not match
+            narrowedPersons = matches.get().toList();
+        } else {
+            // only the persons shown so far can pass the narrowed filter
+            Predicate<Person> find = matches.isPresent()
+                    ? matches.get()::contains
+                    : CombinedFindPredicate.narrow(null, predicates);
+            narrowedPersons = filteredPersons.stream().filter(find).collect(Collectors.toList());
         }
-        filteredPersons.setPredicate(new SamePersonPredicate(newPersons));
+        filterPredicate = CombinedFindPredicate.narrow(isShowingAllPersons ? null : filterPredicate, predicates);
+        filteredPersons.setAll(narrowedPersons);
+        // persons matched by a ranked find, such as a fuzzy name find, are listed best match first
+        rankedFilteredPersons.setComparator(matches.flatMap(PersonMatches::getRanking)
+                .orElseGet(() -> getRanking(predicates)));
     }
 
-    @Override
-    public ObservableList<CalendarEvent> getFilteredCalendarEventList() {
-        ObservableList<Person> lastShownList = this.filteredPersons;
-        ObservableList<CalendarEvent> calendarEventList = getCalendarEventList(lastShownList);
-        return calendarEventList;
+    /**
+     * Returns the ranking of the first of {@code predicates} that ranks the persons passing it, or null if none does.
+     */
+    private static Comparator<Person> getRanking(List<? extends Predicate<Person>> predicates) {
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate instanceof FindPredicate && ((FindPredicate) predicate).getRanking().isPresent()) {
+                return ((FindPredicate) predicate).getRanking().get();
+            }
+        }
+        return null;
     }
 
-    private ObservableList<CalendarEvent> getCalendarEventList(ObservableList<Person> lastShownList) {
-        calendarEventList.clear();
-        lastShownList.stream().map(x -> x.getCalendarEvents()).forEach(e -> calendarEventList.addAll(e));
-        return calendarEventList;
+    /**
+     * Shows the persons in the address book that pass the filter, testing every person against it.
+     */
+    private void refilterPersons() {
+        if (filterPredicate == PREDICATE_SHOW_ALL_PERSONS) {
+            filteredPersons.setAll(addressBook.getPersonList());
+            return;
+        }
+        filteredPersons.setAll(addressBook.getPersonList().stream()
+                .filter(filterPredicate)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Keeps the persons shown in step with the persons in the address book as they change. Only the persons added
+     * or edited are tested against the filter, and they are placed among the persons shown by the order of the
+     * address book, without looking at the persons that are filtered out.
+     */
+    private void updateFilteredPersons(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                // the same persons are shown, in the new order of the address book
+                Set<Person> shownPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+                shownPersons.addAll(filteredPersons);
+                filteredPersons.setAll(addressBook.getPersonList().stream()
+                        .filter(shownPersons::contains)
+                        .collect(Collectors.toList()));
+                return;
+            }
+            if (change.getRemovedSize() > 1) {
+                // the persons were replaced, so every person is tested again
+                refilterPersons();
+                return;
+            }
+            change.getRemoved().forEach(this::removeFilteredPerson);
+            addFilteredPersons(change.getAddedSubList());
+        }
+    }
+
+    private void removeFilteredPerson(Person person) {
+        for (int i = 0; i < filteredPersons.size(); i++) {
+            if (filteredPersons.get(i) == person) {
+                filteredPersons.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Shows those of {@code addedPersons}, which were added next to each other in the address book, that pass the
+     * filter, each in its place in the order of the address book.
+     */
+    private void addFilteredPersons(List<? extends Person> addedPersons) {
+        List<Person> passedPersons = addedPersons.stream().filter(filterPredicate).collect(Collectors.toList());
+        if (passedPersons.isEmpty()) {
+            return;
+        }
+        Comparator<Person> listOrder = addressBook.getListOrder();
+        if (filteredPersons.isEmpty()
+                || listOrder.compare(filteredPersons.get(filteredPersons.size() - 1), passedPersons.get(0)) < 0) {
+            // persons added to the end of the address book are shown at the end, as a single change
+            filteredPersons.addAll(passedPersons);
+            return;
+        }
+        for (Person person : passedPersons) {
+            int insertionPoint = -Collections.binarySearch(filteredPersons, person, listOrder) - 1;
+            filteredPersons.add(insertionPoint, person);
+        }
+    }
+
+    @Override
+    public ObservableList<CalendarEvent> getFilteredCalendarEventList() {
+        calendarEventList.update();
+        return calendarEventList.asUnmodifiableObservableList();
     }
 
     @Override
     public void updateCalendarEventList() {
-        getCalendarEventList(filteredPersons);
+        calendarEventList.update();
     }
 
     //=========== Command History=============================================================
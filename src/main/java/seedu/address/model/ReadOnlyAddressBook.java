@@ -1,7 +1,12 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +19,25 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a number that increases whenever the persons change, so that callers can tell whether
+     * anything changed since they last looked without comparing the persons.
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes made to the persons since the address book was at {@code version}, in the order they
+     * were made, or an empty {@code Optional} if they are not known.
+     */
+    default Optional<List<PersonChange>> getChangesSince(long version) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the person named {@code name}, if there is one.
+     */
+    default Optional<Person> getPerson(Name name) {
+        return getPersonList().stream().filter(person -> person.getName().equals(name)).findFirst();
+    }
+
 }
@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    int getMaxAppointmentsPerClient();
+
+    AddressBookFormat getAddressBookFormat();
+
+    int getMaxCommandHistorySize();
+
 }
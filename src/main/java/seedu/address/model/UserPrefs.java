@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +15,15 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_MAX_APPOINTMENTS_PER_CLIENT = 3;
+    public static final String MESSAGE_MAX_APPOINTMENTS_PER_CLIENT_CONSTRAINTS =
+            "Maximum number of appointments per client should be between 1 and " + MAXIMUM_NUM_OF_APPOINTMENTS;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "FAP.json");
+    private int maxAppointmentsPerClient = DEFAULT_MAX_APPOINTMENTS_PER_CLIENT;
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private int maxCommandHistorySize = CommandHistory.DEFAULT_MAX_COMMAND_HISTORY_SIZE;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +45,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setMaxAppointmentsPerClient(newUserPrefs.getMaxAppointmentsPerClient());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setMaxCommandHistorySize(newUserPrefs.getMaxCommandHistorySize());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +68,35 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public int getMaxAppointmentsPerClient() {
+        return maxAppointmentsPerClient;
+    }
+
+    public void setMaxAppointmentsPerClient(int maxAppointmentsPerClient) {
+        checkArgument(maxAppointmentsPerClient > 0 && maxAppointmentsPerClient <= MAXIMUM_NUM_OF_APPOINTMENTS,
+                MESSAGE_MAX_APPOINTMENTS_PER_CLIENT_CONSTRAINTS);
+        this.maxAppointmentsPerClient = maxAppointmentsPerClient;
+    }
+
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public int getMaxCommandHistorySize() {
+        return maxCommandHistorySize;
+    }
+
+    public void setMaxCommandHistorySize(int maxCommandHistorySize) {
+        checkArgument(CommandHistory.isValidMaxSize(maxCommandHistorySize),
+                CommandHistory.MESSAGE_MAX_SIZE_CONSTRAINTS);
+        this.maxCommandHistorySize = maxCommandHistorySize;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +109,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && maxAppointmentsPerClient == o.maxAppointmentsPerClient
+                && addressBookFormat == o.addressBookFormat
+                && maxCommandHistorySize == o.maxCommandHistorySize;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, maxAppointmentsPerClient, addressBookFormat,
+                maxCommandHistorySize);
     }
 
     @Override
@@ -81,6 +126,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nMaximum appointments per client : " + maxAppointmentsPerClient);
+        sb.append("\nAddress book format : " + addressBookFormat);
+        sb.append("\nMaximum command history size : " + maxCommandHistorySize);
         return sb.toString();
     }
 
@@ -1,7 +1,6 @@
 package seedu.address.model.appointment;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
 
 import java.util.Objects;
 
@@ -16,8 +15,7 @@ public class Appointment implements Comparable<Appointment> {
     public static final String MESSAGE_CONSTRAINTS = "Appointments can only take in a date and "
             + "time in the format, d-M-yyyy HH:mm, and it should not be blank. \n"
             + "e.g \"d/01-03-2023 18:00\" represents 1-Mar-2022, 6:00 PM";
-    public static final MaximumSortedList<Appointment> EMPTY_APPOINTMENTS =
-            new MaximumSortedList<>(MAXIMUM_NUM_OF_APPOINTMENTS);
+    public static final MaximumSortedList<Appointment> EMPTY_APPOINTMENTS = new AppointmentList();
 
     private final DateTime dateTime;
     private final Location location;
@@ -0,0 +1,51 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
+
+import seedu.address.model.util.MaximumSortedList;
+
+/**
+ * A {@code MaximumSortedList} of a Person's appointments, sorted by date time.
+ * The appointments are kept in a compact primitive form, so that clients with a long
+ * history of appointments do not hold an object graph per appointment.
+ *
+ * @see AppointmentTimeSeries
+ */
+public class AppointmentList extends MaximumSortedList<Appointment> {
+
+    private final AppointmentTimeSeries appointments;
+
+    /**
+     * Creates an empty AppointmentList.
+     */
+    public AppointmentList() {
+        this(new AppointmentTimeSeries());
+    }
+
+    private AppointmentList(AppointmentTimeSeries appointments) {
+        super(appointments, MAXIMUM_NUM_OF_APPOINTMENTS);
+        this.appointments = appointments;
+    }
+
+    /**
+     * Creates an AppointmentList with all the appointments of the input list.
+     *
+     * @param appointments the list containing the appointments to be added.
+     */
+    public AppointmentList(MaximumSortedList<Appointment> appointments) {
+        this();
+        requireNonNull(appointments);
+        appointments.forEach(this::add);
+    }
+
+    @Override
+    protected int compareAt(int index, Appointment appointment) {
+        return appointments.compareAt(index, appointment);
+    }
+
+    @Override
+    protected boolean equalsAt(int index, Appointment appointment) {
+        return appointments.equalsAt(index, appointment);
+    }
+}
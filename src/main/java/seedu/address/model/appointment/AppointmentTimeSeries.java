@@ -0,0 +1,110 @@
+package seedu.address.model.appointment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable list of appointments that stores each appointment as its date time in minutes since
+ * the epoch and its location. Appointments are only materialised when they are read, so the memory
+ * held per appointment stays constant no matter how many appointments a client has.
+ *
+ * The appointments can be compared and matched by their index without being materialised,
+ * see {@link #compareAt(int, Appointment)} and {@link #equalsAt(int, Appointment)}.
+ */
+class AppointmentTimeSeries extends ModifiableObservableListBase<Appointment> {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] epochMinutes = new long[INITIAL_CAPACITY];
+    private Location[] locations = new Location[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @Override
+    public Appointment get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new Appointment(toDateTime(epochMinutes[index]), locations[index]);
+    }
+
+    /**
+     * Compares the appointment at {@code index} with {@code appointment} by date time, as
+     * {@link Appointment#compareTo(Appointment)} does.
+     */
+    int compareAt(int index, Appointment appointment) {
+        return Long.compare(epochMinutes[index], toEpochMinute(appointment.getDateTime()));
+    }
+
+    /**
+     * Returns true if the appointment at {@code index} is equal to {@code appointment}.
+     */
+    boolean equalsAt(int index, Appointment appointment) {
+        return epochMinutes[index] == toEpochMinute(appointment.getDateTime())
+                && locations[index].equals(appointment.getLocation());
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, Appointment appointment) {
+        requireNonNull(appointment);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        ensureCapacity(size + 1);
+        System.arraycopy(epochMinutes, index, epochMinutes, index + 1, size - index);
+        System.arraycopy(locations, index, locations, index + 1, size - index);
+        store(index, appointment);
+        size++;
+    }
+
+    @Override
+    protected Appointment doSet(int index, Appointment appointment) {
+        requireNonNull(appointment);
+        Appointment previous = get(index);
+        store(index, appointment);
+        return previous;
+    }
+
+    @Override
+    protected Appointment doRemove(int index) {
+        Appointment removed = get(index);
+        System.arraycopy(epochMinutes, index + 1, epochMinutes, index, size - index - 1);
+        System.arraycopy(locations, index + 1, locations, index, size - index - 1);
+        size--;
+        locations[size] = null;
+        return removed;
+    }
+
+    private void store(int index, Appointment appointment) {
+        epochMinutes[index] = toEpochMinute(appointment.getDateTime());
+        locations[index] = appointment.getLocation();
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= epochMinutes.length) {
+            return;
+        }
+        int newCapacity = Math.max(minCapacity, epochMinutes.length * 2);
+        epochMinutes = Arrays.copyOf(epochMinutes, newCapacity);
+        locations = Arrays.copyOf(locations, newCapacity);
+    }
+
+    private static long toEpochMinute(DateTime dateTime) {
+        LocalDateTime localDateTime = dateTime.getLocalDateTime();
+        assert localDateTime.getSecond() == 0 && localDateTime.getNano() == 0
+                : "Appointments are scheduled to the minute";
+        return Math.floorDiv(localDateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static DateTime toDateTime(long epochMinute) {
+        return new DateTime(LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC));
+    }
+}
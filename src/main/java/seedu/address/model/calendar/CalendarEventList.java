@@ -0,0 +1,212 @@
+package seedu.address.model.calendar;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.MaximumSortedList;
+
+/**
+ * A list of the {@code CalendarEvent}s of every person in a list of persons, sorted by date time.
+ * The list follows changes to the list of persons and to the appointments of each person, but only
+ * the events of the persons affected are recreated. Pending changes are applied by {@link #update()},
+ * which notifies listeners of this list with a single change.
+ */
+public class CalendarEventList {
+
+    private final BatchedEventList events = new BatchedEventList();
+    private final ObservableList<CalendarEvent> unmodifiableEvents =
+            FXCollections.unmodifiableObservableList(events);
+    private final Map<Person, PersonEvents> trackedPersons = new IdentityHashMap<>();
+    private final Map<Person, PersonEvents> departedPersons = new IdentityHashMap<>();
+    private final Set<PersonEvents> stalePersons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ListChangeListener<Person> personsListener = this::onPersonsChanged;
+
+    /**
+     * Creates a CalendarEventList containing the events of {@code persons}.
+     */
+    public CalendarEventList(ObservableList<? extends Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::track);
+        persons.addListener(personsListener);
+        update();
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<CalendarEvent> asUnmodifiableObservableList() {
+        return unmodifiableEvents;
+    }
+
+    /**
+     * Applies every change to the persons and their appointments since the last update,
+     * and notifies listeners of this list with a single change if there are any.
+     */
+    public void update() {
+        if (departedPersons.isEmpty() && stalePersons.isEmpty()) {
+            return;
+        }
+        events.applyInBatch(() -> {
+            for (PersonEvents personEvents : departedPersons.values()) {
+                personEvents.detach();
+                personEvents.shownEvents.forEach(events::removeEvent);
+            }
+            for (PersonEvents personEvents : stalePersons) {
+                if (trackedPersons.get(personEvents.owner) != personEvents) {
+                    continue;
+                }
+                personEvents.shownEvents.forEach(events::removeEvent);
+                personEvents.shownEvents = personEvents.owner.getCalendarEvents();
+                personEvents.shownEvents.forEach(events::insertEvent);
+            }
+        });
+        departedPersons.clear();
+        stalePersons.clear();
+    }
+
+    private void onPersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                PersonEvents personEvents = trackedPersons.remove(removed);
+                if (personEvents != null) {
+                    departedPersons.put(removed, personEvents);
+                }
+            }
+            change.getAddedSubList().forEach(this::track);
+        }
+    }
+
+    /**
+     * Starts following {@code person}. A person that left the list since the last update
+     * keeps its events, as they are still up to date.
+     */
+    private void track(Person person) {
+        PersonEvents personEvents = departedPersons.remove(person);
+        if (personEvents == null) {
+            personEvents = new PersonEvents(person);
+            personEvents.attach();
+            stalePersons.add(personEvents);
+        }
+        trackedPersons.put(person, personEvents);
+    }
+
+    /**
+     * The events of a person that are currently in the list. Marks itself as stale
+     * whenever the appointments of the person change.
+     */
+    private class PersonEvents implements ListChangeListener<Appointment> {
+        private final Person owner;
+        private final MaximumSortedList<Appointment> appointments;
+        private final WeakListChangeListener<Appointment> weakListener = new WeakListChangeListener<>(this);
+        private List<CalendarEvent> shownEvents = Collections.emptyList();
+
+        PersonEvents(Person owner) {
+            this.owner = owner;
+            this.appointments = owner.getAppointments();
+        }
+
+        void attach() {
+            appointments.addListener(weakListener);
+        }
+
+        void detach() {
+            appointments.removeListener(weakListener);
+        }
+
+        @Override
+        public void onChanged(Change<? extends Appointment> change) {
+            stalePersons.add(this);
+        }
+    }
+
+    /**
+     * An observable list of events sorted by date time, whose modifications can be grouped
+     * into a single change.
+     */
+    private static class BatchedEventList extends ModifiableObservableListBase<CalendarEvent> {
+        private final List<CalendarEvent> internalList = new ArrayList<>();
+
+        /**
+         * Runs {@code modifications}, notifying listeners of all of them as one change.
+         */
+        void applyInBatch(Runnable modifications) {
+            beginChange();
+            try {
+                modifications.run();
+            } finally {
+                endChange();
+            }
+        }
+
+        void insertEvent(CalendarEvent event) {
+            add(upperBound(event), event);
+        }
+
+        void removeEvent(CalendarEvent event) {
+            for (int i = upperBound(event) - 1; i >= 0 && internalList.get(i).compareTo(event) == 0; i--) {
+                if (internalList.get(i) == event) {
+                    remove(i);
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Returns the index after every event that does not come after {@code event}.
+         */
+        private int upperBound(CalendarEvent event) {
+            int low = 0;
+            int high = internalList.size();
+            while (low < high) {
+                int mid = low + (high - low) / 2;
+                if (internalList.get(mid).compareTo(event) > 0) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        @Override
+        public CalendarEvent get(int index) {
+            return internalList.get(index);
+        }
+
+        @Override
+        public int size() {
+            return internalList.size();
+        }
+
+        @Override
+        protected void doAdd(int index, CalendarEvent event) {
+            internalList.add(index, event);
+        }
+
+        @Override
+        protected CalendarEvent doSet(int index, CalendarEvent event) {
+            return internalList.set(index, event);
+        }
+
+        @Override
+        protected CalendarEvent doRemove(int index) {
+            return internalList.remove(index);
+        }
+    }
+}
@@ -2,29 +2,42 @@ package seedu.address.model.calendar;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
 
 
 /**
  * Represents a Calendar in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * The CalendarEvents are indexed by month and day of month in a single pass on the first lookup,
+ * so that subsequent lookups of any day, in any month, take constant time. The index is rebuilt
+ * on the next lookup after the CalendarEvents change.
  */
 public class CalendarMonth {
     // Data fields
     private ObservableList<CalendarEvent> calendarEvents;
 
+    private Map<YearMonth, Map<Integer, ObservableList<CalendarEvent>>> monthIndex;
+    private final ListChangeListener<CalendarEvent> indexInvalidator = change -> monthIndex = null;
+
     /**
      * Every field must be present and not null.
      */
     public CalendarMonth(ObservableList<CalendarEvent> calendarEvents) {
         requireAllNonNull(calendarEvents);
         this.calendarEvents = calendarEvents;
+        calendarEvents.addListener(new WeakListChangeListener<>(indexInvalidator));
     }
 
     /**
@@ -35,12 +48,42 @@ public class CalendarMonth {
     }
 
 
+    /**
+     * Returns an unmodifiable list of the CalendarEvents on the given day, sorted by time.
+     */
     public ObservableList<CalendarEvent> getCalendarEventInDayOfMonth(Integer day, Integer month, Integer year) {
         requireAllNonNull(day, month, year);
-        List<CalendarEvent> calendarEventInDayOfMonth = new ArrayList<>();
-        Predicate<CalendarEvent> filter = (e) -> e.getDay() == day && e.getMonth() == month && e.getYear() == year;
-        calendarEvents.stream().filter(filter).forEach(calendarEventInDayOfMonth::add);
-        return FXCollections.observableList(calendarEventInDayOfMonth);
+        Map<Integer, ObservableList<CalendarEvent>> daysInMonth =
+                getMonthIndex().getOrDefault(YearMonth.of(year, month), Collections.emptyMap());
+        return daysInMonth.getOrDefault(day, FXCollections.emptyObservableList());
+    }
+
+    private Map<YearMonth, Map<Integer, ObservableList<CalendarEvent>>> getMonthIndex() {
+        if (monthIndex == null) {
+            monthIndex = buildMonthIndex(calendarEvents);
+        }
+        return monthIndex;
+    }
+
+    private static Map<YearMonth, Map<Integer, ObservableList<CalendarEvent>>> buildMonthIndex(
+            List<CalendarEvent> calendarEvents) {
+        Map<YearMonth, Map<Integer, List<CalendarEvent>>> eventsByDay = new HashMap<>();
+        for (CalendarEvent event : calendarEvents) {
+            eventsByDay.computeIfAbsent(YearMonth.of(event.getYear(), event.getMonth()), unused -> new HashMap<>())
+                    .computeIfAbsent(event.getDay(), unused -> new ArrayList<>())
+                    .add(event);
+        }
+
+        Map<YearMonth, Map<Integer, ObservableList<CalendarEvent>>> index = new HashMap<>();
+        eventsByDay.forEach((yearMonth, days) -> {
+            Map<Integer, ObservableList<CalendarEvent>> sortedDays = new HashMap<>();
+            days.forEach((day, events) -> {
+                Collections.sort(events);
+                sortedDays.put(day, FXCollections.unmodifiableObservableList(FXCollections.observableList(events)));
+            });
+            index.put(yearMonth, sortedDays);
+        });
+        return index;
     }
 
     /**
@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import seedu.address.model.appointment.Appointment;
+
+/**
+ * An index of every booked appointment slot in a {@code UniquePersonList}, ordered by date time.
+ * Each slot maps to the person(s) holding an appointment at that date time, so that slot conflicts
+ * and date time range queries can be answered without scanning every person.
+ * The owners of a slot are kept in an unmodifiable list that is replaced when they change, since a slot
+ * rarely has more than one owner, so that ranges of slots can be handed out as read-only views.
+ */
+class AppointmentSlotIndex {
+
+    private final NavigableMap<LocalDateTime, List<Person>> slots = new TreeMap<>();
+
+    /**
+     * Records that {@code owner} holds {@code appointment}.
+     */
+    void add(Person owner, Appointment appointment) {
+        requireAllNonNull(owner, appointment);
+        slots.merge(getSlot(appointment), List.of(owner), (owners, addedOwners) -> {
+            List<Person> updatedOwners = new ArrayList<>(owners.size() + 1);
+            updatedOwners.addAll(owners);
+            updatedOwners.addAll(addedOwners);
+            return Collections.unmodifiableList(updatedOwners);
+        });
+    }
+
+    /**
+     * Removes the record that {@code owner} holds {@code appointment}.
+     */
+    void remove(Person owner, Appointment appointment) {
+        requireAllNonNull(owner, appointment);
+        slots.computeIfPresent(getSlot(appointment), (slot, owners) -> {
+            List<Person> updatedOwners = new ArrayList<>(owners);
+            updatedOwners.remove(owner);
+            return updatedOwners.isEmpty() ? null : Collections.unmodifiableList(updatedOwners);
+        });
+    }
+
+    void clear() {
+        slots.clear();
+    }
+
+    /**
+     * Returns true if any person holds an appointment at the same date time as {@code appointment}.
+     */
+    boolean isBooked(Appointment appointment) {
+        return slots.containsKey(getSlot(appointment));
+    }
+
+    /**
+     * Returns a read-only view of the booked slots from {@code from} to {@code to}, both inclusive,
+     * together with their owners. The view reflects later bookings, and nothing is copied to create it.
+     */
+    NavigableMap<LocalDateTime, List<Person>> getSlotsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return Collections.unmodifiableNavigableMap(slots.subMap(from, true, to, true));
+    }
+
+    private static LocalDateTime getSlot(Appointment appointment) {
+        return appointment.getDateTime().getLocalDateTime();
+    }
+}
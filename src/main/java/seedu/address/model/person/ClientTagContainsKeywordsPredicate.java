@@ -1,16 +1,14 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-import seedu.address.model.tag.Tag;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class ClientTagContainsKeywordsPredicate extends FindPredicate {
-    private final List<String> clientTags;
 
     /**
      * Constructs a {@code RiskTagContainsKeywordsPredicate}.
@@ -19,27 +17,30 @@ public class ClientTagContainsKeywordsPredicate extends FindPredicate {
      */
     public ClientTagContainsKeywordsPredicate(List<String> clientTags) {
         super(clientTags);
-        this.clientTags = clientTags.stream().map(x -> x.toUpperCase()).collect(Collectors.toList());
     }
 
     @Override
-    public boolean test(Person person) {
-        Set<Tag> personTags = person.getSpecialTags();
-        for (String predicateTagName : clientTags) {
-            for (Tag personsTag : personTags) {
-                if (personsTag.tagName.equalsIgnoreCase(predicateTagName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    protected Predicate<Person> compile() {
+        String[] tagNames = getKeywords().toArray(new String[0]);
+        return person -> hasSpecialTagNamedAny(person, tagNames);
+    }
+
+    @Override
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        BitSet ordinals = persons.getSpecialTagIndex().lookUp(getKeywords().toArray(new String[0]));
+        return Optional.of(new PersonMatches(persons, ordinals, null));
+    }
+
+    @Override
+    protected int getCostPerKeyword() {
+        return SPECIAL_TAG_COMPARISON_COST;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ClientTagContainsKeywordsPredicate // instanceof handles nulls
-                && clientTags.equals(((ClientTagContainsKeywordsPredicate) other).clientTags)); // state check
+                && getKeywords().equals(((ClientTagContainsKeywordsPredicate) other).getKeywords())); // state check
     }
 
 }
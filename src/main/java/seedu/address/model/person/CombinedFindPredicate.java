@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Tests that a {@code Person} matches every find in a series of finds, where each find matches a
+ * {@code Person} that passes any of its predicates. The predicates of each find, and the finds
+ * themselves, are tested cheapest first, and testing stops as soon as the result is known.
+ */
+public class CombinedFindPredicate implements Predicate<Person> {
+    private static final int UNKNOWN_EVALUATION_COST = Integer.MAX_VALUE / 2;
+
+    private final Predicate<? super Person> basePredicate;
+    private final List<List<Predicate<Person>>> finds;
+
+    private CombinedFindPredicate(Predicate<? super Person> basePredicate, List<List<Predicate<Person>>> finds) {
+        this.basePredicate = basePredicate;
+        this.finds = finds;
+    }
+
+    /**
+     * Returns a predicate that tests that a {@code Person} passes {@code currentPredicate}
+     * and any of {@code predicates}.
+     *
+     * @param currentPredicate the predicate to narrow down, or null if every {@code Person} passes it.
+     * @param predicates the predicates of the find to narrow {@code currentPredicate} down with.
+     */
+    public static CombinedFindPredicate narrow(Predicate<? super Person> currentPredicate,
+                                               List<? extends Predicate<Person>> predicates) {
+        requireNonNull(predicates);
+        List<Predicate<Person>> find = new ArrayList<>(predicates);
+        find.sort(Comparator.comparingInt(CombinedFindPredicate::getPredicateCost));
+
+        if (!(currentPredicate instanceof CombinedFindPredicate)) {
+            return new CombinedFindPredicate(currentPredicate, Collections.singletonList(find));
+        }
+
+        CombinedFindPredicate current = (CombinedFindPredicate) currentPredicate;
+        List<List<Predicate<Person>>> finds = new ArrayList<>(current.finds);
+        finds.add(find);
+        finds.sort(Comparator.comparingInt(CombinedFindPredicate::getFindCost));
+        return new CombinedFindPredicate(current.basePredicate, finds);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (List<Predicate<Person>> find : finds) {
+            if (!matchesAny(find, person)) {
+                return false;
+            }
+        }
+        return basePredicate == null || basePredicate.test(person);
+    }
+
+    private static boolean matchesAny(List<Predicate<Person>> predicates, Person person) {
+        for (Predicate<Person> predicate : predicates) {
+            if (predicate.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int getPredicateCost(Predicate<Person> predicate) {
+        return predicate instanceof FindPredicate
+                ? ((FindPredicate) predicate).getEvaluationCost()
+                : UNKNOWN_EVALUATION_COST;
+    }
+
+    private static int getFindCost(List<Predicate<Person>> predicates) {
+        long totalCost = 0;
+        for (Predicate<Person> predicate : predicates) {
+            totalCost += getPredicateCost(predicate);
+        }
+        return (int) Math.min(totalCost, Integer.MAX_VALUE);
+    }
+}
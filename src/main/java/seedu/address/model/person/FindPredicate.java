@@ -1,14 +1,29 @@
 package seedu.address.model.person;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import seedu.address.model.tag.Tag;
+
 /**
- * Predicate used to filter the clients in the {@code FilteredList}
+ * Predicate used to filter the clients in the {@code FilteredList}.
+ * Each predicate is compiled into a matcher the first time it is tested. The matcher holds the keywords
+ * in the form they are compared in, so that testing a {@code Person} does not allocate.
  */
 public abstract class FindPredicate implements Predicate<Person> {
+    /** Relative cost of comparing one keyword against a number of a {@code Person}. */
+    protected static final int NUMBER_COMPARISON_COST = 1;
+    /** Relative cost of comparing one keyword against the special tags of a {@code Person}. */
+    protected static final int SPECIAL_TAG_COMPARISON_COST = 3;
+    /** Relative cost of searching for one keyword in the text of a {@code Person}. */
+    protected static final int TEXT_SEARCH_COST = 10;
+
     private final List<String> keywords;
+    private Predicate<Person> matcher;
 
     /**
      * Constructs a {@code FindPredicate}.
@@ -19,6 +34,88 @@ public abstract class FindPredicate implements Predicate<Person> {
         this.keywords = keywords.stream().map(x -> x.toUpperCase()).collect(Collectors.toList());
     }
 
+    /**
+     * Returns the keywords of this predicate, in upper case.
+     */
+    protected List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the non-blank keywords of this predicate, trimmed and in upper case.
+     */
+    protected String[] getTrimmedKeywords() {
+        return keywords.stream()
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * Compiles this predicate into the matcher that tests each {@code Person}.
+     */
+    protected abstract Predicate<Person> compile();
+
+    @Override
+    public boolean test(Person person) {
+        if (matcher == null) {
+            matcher = compile();
+        }
+        return matcher.test(person);
+    }
+
+    /**
+     * Returns the persons in {@code persons} that pass this predicate, looked up in the indexes of {@code persons},
+     * or an empty {@code Optional} if this predicate cannot be looked up.
+     */
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the order in which the persons that pass this predicate should be listed,
+     * if this predicate ranks them.
+     */
+    public Optional<Comparator<Person>> getRanking() {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if any of the special tags of {@code person} has one of the {@code tagNames}, ignoring case.
+     */
+    protected static boolean hasSpecialTagNamedAny(Person person, String[] tagNames) {
+        return isTagNamedAny(person.getRiskTag(), tagNames)
+                || isTagNamedAny(person.getPlanTag(), tagNames)
+                || isTagNamedAny(person.getClientTag(), tagNames);
+    }
+
+    /**
+     * Returns true if {@code tag} has one of the {@code tagNames}, ignoring case.
+     */
+    protected static boolean isTagNamedAny(Tag tag, String[] tagNames) {
+        if (Objects.isNull(tag)) {
+            return false;
+        }
+        for (String tagName : tagNames) {
+            if (tag.tagName.equalsIgnoreCase(tagName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an estimate of the relative cost of testing a {@code Person} against this predicate,
+     * so that cheaper predicates can be tested first.
+     */
+    public int getEvaluationCost() {
+        return keywords.size() * getCostPerKeyword();
+    }
+
+    protected int getCostPerKeyword() {
+        return TEXT_SEARCH_COST;
+    }
+
     public FindPredicate or(FindPredicate other) {
         return this.or(other);
     }
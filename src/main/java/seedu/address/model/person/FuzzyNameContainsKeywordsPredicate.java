@@ -0,0 +1,97 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} has a word that is within a few typing mistakes of any of the
+ * keywords given. Persons are ranked by how close their name comes to a keyword.
+ */
+public class FuzzyNameContainsKeywordsPredicate extends FindPredicate {
+    /** Relative cost of comparing one keyword against every word of a {@code Name} by edit distance. */
+    private static final int FUZZY_SEARCH_COST = 50;
+    /** Keywords up to this length may only be one typing mistake away from a word. */
+    private static final int SHORT_KEYWORD_LENGTH = 4;
+
+    /**
+     * Constructs a {@code FuzzyNameContainsKeywordsPredicate}.
+     *
+     * @param keywords keywords to be tested against.
+     */
+    public FuzzyNameContainsKeywordsPredicate(List<String> keywords) {
+        super(keywords);
+    }
+
+    /**
+     * Returns the largest edit distance at which a word still matches {@code keyword}.
+     */
+    static int getMaxEditDistance(String keyword) {
+        return keyword.length() <= SHORT_KEYWORD_LENGTH ? 1 : 2;
+    }
+
+    /**
+     * Returns the smallest edit distance between a word of the name of {@code person} and a keyword
+     * that it matches, or {@code Integer.MAX_VALUE} if it matches none.
+     */
+    int getEditDistance(Person person) {
+        String[] keywords = getTrimmedKeywords();
+        int closestDistance = Integer.MAX_VALUE;
+        for (String word : person.getName().getWords()) {
+            String normalizedWord = word.toUpperCase();
+            for (String keyword : keywords) {
+                int distance = StringUtil.getEditDistance(normalizedWord, keyword);
+                if (distance <= getMaxEditDistance(keyword)) {
+                    closestDistance = Math.min(closestDistance, distance);
+                }
+            }
+        }
+        return closestDistance;
+    }
+
+    @Override
+    protected Predicate<Person> compile() {
+        return person -> getEditDistance(person) != Integer.MAX_VALUE;
+    }
+
+    @Override
+    public Optional<Comparator<Person>> getRanking() {
+        return Optional.of(Comparator.comparingInt(this::getEditDistance));
+    }
+
+    @Override
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        Map<Integer, Integer> editDistancesByOrdinal = persons.getFuzzyNameIndex().lookUp(getTrimmedKeywords());
+        BitSet ordinals = new BitSet();
+        Map<Person, Integer> editDistances = new IdentityHashMap<>();
+        editDistancesByOrdinal.forEach((ordinal, editDistance) -> {
+            ordinals.set(ordinal);
+            editDistances.put(persons.getPersonAt(ordinal), editDistance);
+        });
+        // persons added or edited after the lookup are ranked by comparing their names again
+        Comparator<Person> ranking = Comparator.comparingInt(person -> {
+            Integer editDistance = editDistances.get(person);
+            return editDistance != null ? editDistance : getEditDistance(person);
+        });
+        return Optional.of(new PersonMatches(persons, ordinals, ranking));
+    }
+
+    @Override
+    protected int getCostPerKeyword() {
+        return FUZZY_SEARCH_COST;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyNameContainsKeywordsPredicate // instanceof handles nulls
+                && getKeywords().equals(((FuzzyNameContainsKeywordsPredicate) other).getKeywords())); // state check
+    }
+
+}
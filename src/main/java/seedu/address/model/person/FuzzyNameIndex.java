@@ -0,0 +1,162 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index of the words in the names of the persons in a {@code UniquePersonList}, arranged in a BK-tree
+ * so that the words within a small edit distance of a keyword are found without comparing the keyword
+ * against every word. Each word is listed with the ordinals of the persons whose name has it. Words that no
+ * longer belong to any person are left in the tree until they outnumber the words in use, at which point the tree
+ * is rebuilt.
+ */
+class FuzzyNameIndex extends PersonIndex {
+
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+    private WordNode root;
+    private int wordsInTree;
+
+    @Override
+    void add(Person person, int ordinal) {
+        for (String word : person.getName().getWords()) {
+            String normalizedWord = word.toUpperCase();
+            Set<Integer> ordinalsWithWord = postings.get(normalizedWord);
+            if (ordinalsWithWord == null) {
+                ordinalsWithWord = new HashSet<>(2);
+                postings.put(normalizedWord, ordinalsWithWord);
+                insertIntoTree(normalizedWord);
+            }
+            ordinalsWithWord.add(ordinal);
+        }
+    }
+
+    @Override
+    void remove(Person person, int ordinal) {
+        for (String word : person.getName().getWords()) {
+            String normalizedWord = word.toUpperCase();
+            Set<Integer> ordinalsWithWord = postings.get(normalizedWord);
+            if (ordinalsWithWord == null) {
+                continue;
+            }
+            ordinalsWithWord.remove(ordinal);
+            if (ordinalsWithWord.isEmpty()) {
+                postings.remove(normalizedWord);
+            }
+        }
+        if (wordsInTree > 2 * postings.size()) {
+            rebuildTree();
+        }
+    }
+
+    @Override
+    void clear() {
+        postings.clear();
+        root = null;
+        wordsInTree = 0;
+    }
+
+    /**
+     * Returns the smallest edit distance from any of the upper-cased {@code keywords} to a word of the name of each
+     * person with a name word close to a keyword, by the ordinal of the person.
+     */
+    Map<Integer, Integer> lookUp(String[] keywords) {
+        requireNonNull(keywords);
+        Map<Integer, Integer> editDistances = new HashMap<>();
+        for (String keyword : keywords) {
+            int maxEditDistance = FuzzyNameContainsKeywordsPredicate.getMaxEditDistance(keyword);
+            searchTree(keyword, maxEditDistance, (word, editDistance) -> {
+                Set<Integer> ordinalsWithWord = postings.get(word);
+                if (ordinalsWithWord != null) {
+                    ordinalsWithWord.forEach(ordinal -> editDistances.merge(ordinal, editDistance, Math::min));
+                }
+            });
+        }
+        return editDistances;
+    }
+
+    private void insertIntoTree(String word) {
+        if (root == null) {
+            root = new WordNode(word);
+            wordsInTree = 1;
+            return;
+        }
+        WordNode node = root;
+        while (true) {
+            int editDistance = StringUtil.getEditDistance(word, node.word);
+            if (editDistance == 0) {
+                // the word was left in the tree after its last person was removed
+                return;
+            }
+            WordNode child = node.children.get(editDistance);
+            if (child == null) {
+                node.children.put(editDistance, new WordNode(word));
+                wordsInTree++;
+                return;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Passes every word in the tree within {@code maxEditDistance} of {@code keyword} to {@code visitor}.
+     * Only the subtrees that can hold such words are visited.
+     */
+    private void searchTree(String keyword, int maxEditDistance, WordVisitor visitor) {
+        if (root == null) {
+            return;
+        }
+        Deque<WordNode> nodesToVisit = new ArrayDeque<>();
+        nodesToVisit.push(root);
+        while (!nodesToVisit.isEmpty()) {
+            WordNode node = nodesToVisit.pop();
+            int editDistance = StringUtil.getEditDistance(keyword, node.word);
+            if (editDistance <= maxEditDistance) {
+                visitor.visit(node.word, editDistance);
+            }
+            for (int childDistance = Math.max(1, editDistance - maxEditDistance);
+                    childDistance <= editDistance + maxEditDistance; childDistance++) {
+                WordNode child = node.children.get(childDistance);
+                if (child != null) {
+                    nodesToVisit.push(child);
+                }
+            }
+        }
+    }
+
+    private void rebuildTree() {
+        List<String> words = new ArrayList<>(postings.keySet());
+        root = null;
+        wordsInTree = 0;
+        words.forEach(this::insertIntoTree);
+    }
+
+    /**
+     * Receives a word found in the tree and its edit distance from the keyword searched for.
+     */
+    @FunctionalInterface
+    private interface WordVisitor {
+        void visit(String word, int editDistance);
+    }
+
+    /**
+     * A word in the tree. Each child is stored under its edit distance from this word.
+     */
+    private static class WordNode {
+        private final String word;
+        private final Map<Integer, WordNode> children = new HashMap<>();
+
+        WordNode(String word) {
+            this.word = word;
+        }
+    }
+}
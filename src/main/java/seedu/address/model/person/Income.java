@@ -3,11 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's Income Level in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidIncome(String)}
  */
-public class Income {
+public class Income implements Comparable<Income> {
 
     public static final String MESSAGE_CONSTRAINTS = "Income can only take in a non-negative whole number";
 
@@ -18,6 +20,7 @@ public class Income {
     public static final String VALIDATION_REGEX = "^(0|[1-9][0-9]*)$";
 
     public final String value;
+    private final long amount;
 
     /**
      * Constructs an {@code Income}.
@@ -28,6 +31,7 @@ public class Income {
         requireNonNull(income);
         checkArgument(isValidIncome(income), MESSAGE_CONSTRAINTS);
         value = "$" + income;
+        amount = StringUtil.parseUnsignedLongClamped(income);
     }
 
     /**
@@ -38,11 +42,23 @@ public class Income {
     }
 
     /**
-     * Returns an int from the String of income without the $.
-     * @return an int converted from the String.
+     * Returns the income without the $, as parsed when this {@code Income} was constructed.
+     * An income too large for a {@code long} is returned as {@code Long.MAX_VALUE}.
      */
     public long convertIncomeToLong() {
-        return Long.parseLong(this.value.substring(1));
+        return amount;
+    }
+
+    /**
+     * Compares this income with {@code other} by amount.
+     * Amounts too large for a {@code long} are compared by their digits, so they keep their order.
+     */
+    @Override
+    public int compareTo(Income other) {
+        if (amount == Long.MAX_VALUE && other.amount == Long.MAX_VALUE) {
+            return StringUtil.compareUnsignedDigits(value.substring(1), other.value.substring(1));
+        }
+        return Long.compare(amount, other.amount);
     }
 
     @Override
@@ -1,50 +1,51 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class IncomeContainsKeywordsPredicate extends FindPredicate {
-    private final List<String> income;
-    private String predicate;
+    private final String predicate;
 
     /**
      * Tests that a {@code Person}'s {@code Income} is greater or lesser than given value.
      */
     public IncomeContainsKeywordsPredicate(List<String> income, String predicate) {
         super(income);
-        this.income = income;
         this.predicate = predicate;
     }
 
     @Override
-    public boolean test(Person person) {
-        Income personIncome = person.getIncome();
-        for (String predicateIncomeName : income) {
-            if (predicate.equals(">")) {
-                if (personIncome.convertIncomeToLong() >= Long.parseLong(predicateIncomeName)) {
-                    return true;
-                }
-            } else if (predicate.equals("<")) {
-                if (personIncome.convertIncomeToLong() <= Long.parseLong(predicateIncomeName)) {
-                    return true;
-                }
-            } else if (predicate.equals("=")) {
-                if (personIncome.convertIncomeToLong() == Long.parseLong(predicateIncomeName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    protected Predicate<Person> compile() {
+        Predicate<Income> matcher = MonetaryValueMatcher.compile(getValues(), predicate);
+        return person -> matcher.test(person.getIncome());
     }
 
+    @Override
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        BitSet ordinals = persons.getIncomeIndex().lookUp(getValues(), predicate);
+        return Optional.of(new PersonMatches(persons, ordinals, null));
+    }
+
+    private List<Income> getValues() {
+        return getKeywords().stream().map(Income::new).collect(Collectors.toList());
+    }
+
+    @Override
+    protected int getCostPerKeyword() {
+        return NUMBER_COMPARISON_COST;
+    }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof IncomeContainsKeywordsPredicate // instanceof handles nulls
-                && income.equals(((IncomeContainsKeywordsPredicate) other).income)); // state check
+                && getKeywords().equals(((IncomeContainsKeywordsPredicate) other).getKeywords())); // state check
     }
 
 }
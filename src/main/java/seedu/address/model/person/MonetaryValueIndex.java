@@ -0,0 +1,99 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * An index of the persons in a {@code UniquePersonList} ordered by a monetary value, such as their {@code Income},
+ * to the ordinals of the persons with each value.
+ * A find by that value is looked up by slicing the range of values it matches out of the index, so neither the
+ * persons outside the range nor the values outside it are looked at.
+ */
+class MonetaryValueIndex<T extends Comparable<? super T>> extends PersonIndex {
+
+    private final Function<Person, T> valueOf;
+    private final NavigableMap<T, Set<Integer>> postings = new TreeMap<>();
+
+    /**
+     * Creates an empty index of persons ordered by {@code valueOf}.
+     */
+    MonetaryValueIndex(Function<Person, T> valueOf) {
+        this.valueOf = requireNonNull(valueOf);
+    }
+
+    @Override
+    void add(Person person, int ordinal) {
+        postings.computeIfAbsent(valueOf.apply(person), unused -> new HashSet<>(2)).add(ordinal);
+    }
+
+    @Override
+    void remove(Person person, int ordinal) {
+        T value = valueOf.apply(person);
+        Set<Integer> ordinalsWithValue = postings.get(value);
+        if (ordinalsWithValue == null) {
+            return;
+        }
+        ordinalsWithValue.remove(ordinal);
+        if (ordinalsWithValue.isEmpty()) {
+            postings.remove(value);
+        }
+    }
+
+    @Override
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons with a value that satisfies {@code comparison} against any of
+     * {@code keywords}, compared like {@link MonetaryValueMatcher#compile(List, String)} compares them.
+     */
+    BitSet lookUp(List<T> keywords, String comparison) {
+        requireAllNonNull(keywords, comparison);
+        BitSet matches = new BitSet();
+        for (Set<Integer> ordinalsWithValue : getPostingsMatching(keywords, comparison)) {
+            ordinalsWithValue.forEach(matches::set);
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the ordinals listed under each value that satisfies {@code comparison} against any of
+     * {@code keywords}. At least any of the keywords is the tail of the index from the smallest keyword, at most
+     * any of them is the head up to the largest keyword, and equal to any of them is the value of each keyword.
+     */
+    private Collection<Set<Integer>> getPostingsMatching(List<T> keywords, String comparison) {
+        if (keywords.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        switch (comparison) {
+        case MonetaryValueMatcher.AT_LEAST:
+            return postings.tailMap(Collections.min(keywords), true).values();
+        case MonetaryValueMatcher.AT_MOST:
+            return postings.headMap(Collections.max(keywords), true).values();
+        case MonetaryValueMatcher.EQUAL_TO:
+            List<Set<Integer>> postingsWithKeywords = new ArrayList<>(keywords.size());
+            for (T keyword : keywords) {
+                Set<Integer> ordinalsWithValue = postings.get(keyword);
+                if (ordinalsWithValue != null) {
+                    postingsWithKeywords.add(ordinalsWithValue);
+                }
+            }
+            return postingsWithKeywords;
+        default:
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Compiles the keywords of a find by {@code Income} or {@code Monthly} into a single comparison,
+ * so that a {@code Person} is tested without parsing the keywords again.
+ * The values are compared by their own order, which compares amounts as {@code long}s and only falls back
+ * to their digits for amounts too large for a {@code long}.
+ */
+class MonetaryValueMatcher {
+    static final String AT_LEAST = ">";
+    static final String AT_MOST = "<";
+    static final String EQUAL_TO = "=";
+
+    private MonetaryValueMatcher() {}
+
+    /**
+     * Returns a matcher of the values that satisfy {@code comparison} against any of {@code keywords}.
+     * A value is at least any of the keywords if it is at least the smallest keyword, and at most any
+     * of the keywords if it is at most the largest keyword.
+     */
+    static <T extends Comparable<? super T>> Predicate<T> compile(List<T> keywords, String comparison) {
+        List<T> sortedKeywords = new ArrayList<>(keywords);
+        Collections.sort(sortedKeywords);
+        if (sortedKeywords.isEmpty()) {
+            return value -> false;
+        }
+        T smallest = sortedKeywords.get(0);
+        T largest = sortedKeywords.get(sortedKeywords.size() - 1);
+
+        switch (comparison) {
+        case AT_LEAST:
+            return value -> value.compareTo(smallest) >= 0;
+        case AT_MOST:
+            return value -> value.compareTo(largest) <= 0;
+        case EQUAL_TO:
+            return value -> Collections.binarySearch(sortedKeywords, value) >= 0;
+        default:
+            return value -> false;
+        }
+    }
+}
@@ -3,11 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's Monthly Contribution in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidMonthly(String)}
  */
-public class Monthly {
+public class Monthly implements Comparable<Monthly> {
 
     public static final String MESSAGE_CONSTRAINTS =
             "Monthly contribution can only take in a non-negative whole number";
@@ -19,6 +21,7 @@ public class Monthly {
     public static final String VALIDATION_REGEX = "^(0|[1-9][0-9]*)$";
 
     public final String value;
+    private final long amount;
 
     /**
      * Constructs an {@code Monthly}.
@@ -29,6 +32,7 @@ public class Monthly {
         requireNonNull(monthly);
         checkArgument(isValidMonthly(monthly), MESSAGE_CONSTRAINTS);
         value = "$" + monthly;
+        amount = StringUtil.parseUnsignedLongClamped(monthly);
     }
 
     /**
@@ -39,11 +43,23 @@ public class Monthly {
     }
 
     /**
-     * Returns a long from the String of monthly contribution without the $.
-     * @return a long converted from the String.
+     * Returns the monthly contribution without the $, as parsed when this {@code Monthly} was constructed.
+     * A monthly contribution too large for a {@code long} is returned as {@code Long.MAX_VALUE}.
      */
     public long convertMonthlyToLong() {
-        return Long.parseLong(this.value.substring(1));
+        return amount;
+    }
+
+    /**
+     * Compares this monthly contribution with {@code other} by amount.
+     * Amounts too large for a {@code long} are compared by their digits, so they keep their order.
+     */
+    @Override
+    public int compareTo(Monthly other) {
+        if (amount == Long.MAX_VALUE && other.amount == Long.MAX_VALUE) {
+            return StringUtil.compareUnsignedDigits(value.substring(1), other.value.substring(1));
+        }
+        return Long.compare(amount, other.amount);
     }
 
     @Override
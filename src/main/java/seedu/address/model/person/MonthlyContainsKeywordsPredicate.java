@@ -1,52 +1,51 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * Tests that a {@code Person}'s {@code Monthly} matches any of the keywords given.
  */
 public class MonthlyContainsKeywordsPredicate extends FindPredicate {
-    private final List<String> monthly;
-    private String predicate;
+    private final String predicate;
 
     /**
      * Tests that a {@code Person}'s {@code Monthly} is greater or lesser than given value.
      */
     public MonthlyContainsKeywordsPredicate(List<String> monthly, String predicate) {
         super(monthly);
-        this.monthly = monthly;
         this.predicate = predicate;
     }
 
     @Override
-    public boolean test(Person person) {
-
-        Monthly personMonthly = person.getMonthly();
-        for (String predicateMonthlyName : monthly) {
-            if (predicate.equals(">")) {
-                if (personMonthly.convertMonthlyToLong() >= Long.parseLong(predicateMonthlyName)) {
-                    return true;
-                }
-            } else if (predicate.equals("<")) {
-                if (personMonthly.convertMonthlyToLong() <= Long.parseLong(predicateMonthlyName)) {
-                    return true;
-                }
-            } else if (predicate.equals("=")) {
-                if (personMonthly.convertMonthlyToLong() == Long.parseLong(predicateMonthlyName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    protected Predicate<Person> compile() {
+        Predicate<Monthly> matcher = MonetaryValueMatcher.compile(getValues(), predicate);
+        return person -> matcher.test(person.getMonthly());
+    }
+
+    @Override
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        BitSet ordinals = persons.getMonthlyIndex().lookUp(getValues(), predicate);
+        return Optional.of(new PersonMatches(persons, ordinals, null));
     }
 
+    private List<Monthly> getValues() {
+        return getKeywords().stream().map(Monthly::new).collect(Collectors.toList());
+    }
+
+    @Override
+    protected int getCostPerKeyword() {
+        return NUMBER_COMPARISON_COST;
+    }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof MonthlyContainsKeywordsPredicate // instanceof handles nulls
-                && monthly.equals(((MonthlyContainsKeywordsPredicate) other).monthly)); // state check
+                && getKeywords().equals(((MonthlyContainsKeywordsPredicate) other).getKeywords())); // state check
     }
 
 }
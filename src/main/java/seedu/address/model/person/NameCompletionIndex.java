@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * A sorted index of the words in the names of the persons in a {@code UniquePersonList}, used to complete
+ * a partially typed name. The words starting with a prefix are adjacent in the index, so a completion
+ * only visits the words it returns.
+ */
+class NameCompletionIndex {
+
+    private final NavigableMap<String, Completion> completions = new TreeMap<>();
+
+    /**
+     * Records the {@code words} of the name of a person.
+     */
+    void add(Collection<String> words) {
+        requireNonNull(words);
+        for (String word : words) {
+            completions.computeIfAbsent(word.toUpperCase(), unused -> new Completion(word)).count++;
+        }
+    }
+
+    /**
+     * Removes the {@code words} of the name of a person.
+     */
+    void remove(Collection<String> words) {
+        requireNonNull(words);
+        for (String word : words) {
+            String normalizedWord = word.toUpperCase();
+            Completion completion = completions.get(normalizedWord);
+            if (completion != null && --completion.count == 0) {
+                completions.remove(normalizedWord);
+            }
+        }
+    }
+
+    void clear() {
+        completions.clear();
+    }
+
+    /**
+     * Returns up to {@code limit} words starting with {@code prefix}, ignoring case, in alphabetical order.
+     */
+    List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        String normalizedPrefix = prefix.toUpperCase();
+        List<String> words = new ArrayList<>(Math.min(limit, completions.size()));
+        for (Map.Entry<String, Completion> entry : completions.tailMap(normalizedPrefix, true).entrySet()) {
+            if (words.size() >= limit || !entry.getKey().startsWith(normalizedPrefix)) {
+                break;
+            }
+            words.add(entry.getValue().word);
+        }
+        return words;
+    }
+
+    /**
+     * A word as first written, and the number of times it appears in the names of persons.
+     */
+    private static class Completion {
+        private final String word;
+        private int count;
+
+        Completion(String word) {
+            this.word = word;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 
@@ -9,7 +11,6 @@ import seedu.address.commons.util.StringUtil;
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate extends FindPredicate {
-    private final List<String> keywords;
 
     /**
      * Constructs a {@code NameContainsKeywordsPredicate}.
@@ -18,20 +19,25 @@ public class NameContainsKeywordsPredicate extends FindPredicate {
      */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         super(keywords);
-        this.keywords = keywords.stream().map(x -> x.toUpperCase()).collect(Collectors.toList());
     }
 
     @Override
-    public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+    protected Predicate<Person> compile() {
+        String[] words = getTrimmedKeywords();
+        return person -> StringUtil.containsAnyWordIgnoreCase(person.getName().fullName, words);
+    }
+
+    @Override
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        BitSet ordinals = persons.getNameWordIndex().lookUp(getTrimmedKeywords());
+        return Optional.of(new PersonMatches(persons, ordinals, null));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof NameContainsKeywordsPredicate // instanceof handles nulls
-                && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
+                && getKeywords().equals(((NameContainsKeywordsPredicate) other).getKeywords())); // state check
     }
 
 }
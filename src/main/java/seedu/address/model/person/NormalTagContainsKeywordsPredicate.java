@@ -1,8 +1,9 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.model.tag.NormalTag;
 
@@ -10,7 +11,6 @@ import seedu.address.model.tag.NormalTag;
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NormalTagContainsKeywordsPredicate extends FindPredicate {
-    private final List<String> tags;
 
     /**
      * Constructs a {@code NormalTagContainsKeywordsPredicate}.
@@ -19,27 +19,32 @@ public class NormalTagContainsKeywordsPredicate extends FindPredicate {
      */
     public NormalTagContainsKeywordsPredicate(List<String> tags) {
         super(tags);
-        this.tags = tags.stream().map(x -> x.toUpperCase()).collect(Collectors.toList());
     }
 
     @Override
-    public boolean test(Person person) {
-        Set<NormalTag> personTags = person.getTags();
-        for (String predicateTagName : tags) {
-            for (NormalTag personsTag : personTags) {
-                if (personsTag.tagName.equalsIgnoreCase(predicateTagName)) {
+    protected Predicate<Person> compile() {
+        String[] tagNames = getKeywords().toArray(new String[0]);
+        return person -> {
+            for (NormalTag personsTag : person.getTags()) {
+                if (isTagNamedAny(personsTag, tagNames)) {
                     return true;
                 }
             }
-        }
-        return false;
+            return false;
+        };
+    }
+
+    @Override
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        BitSet ordinals = persons.getTagIndex().lookUp(getKeywords().toArray(new String[0]));
+        return Optional.of(new PersonMatches(persons, ordinals, null));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof NormalTagContainsKeywordsPredicate // instanceof handles nulls
-                && tags.equals(((NormalTagContainsKeywordsPredicate) other).tags)); // state check
+                && getKeywords().equals(((NormalTagContainsKeywordsPredicate) other).getKeywords())); // state check
     }
 
 }
@@ -10,6 +10,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
 import seedu.address.model.calendar.CalendarEvent;
 import seedu.address.model.tag.ClientTag;
 import seedu.address.model.tag.NormalTag;
@@ -23,7 +24,11 @@ import seedu.address.model.util.MaximumSortedList;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Person {
-    public static final int MAXIMUM_NUM_OF_APPOINTMENTS = 3;
+    /**
+     * The most appointments a person can hold. The number of appointments that can be added
+     * to a person is further capped by the user's preferences.
+     */
+    public static final int MAXIMUM_NUM_OF_APPOINTMENTS = 1000;
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -38,7 +43,7 @@ public class Person {
     private final ClientTag clientTag;
     private final Set<Tag> specialTags = new HashSet<>();
     private final Set<NormalTag> tags = new HashSet<>();
-    private MaximumSortedList<Appointment> appointments = new MaximumSortedList<>(MAXIMUM_NUM_OF_APPOINTMENTS);
+    private MaximumSortedList<Appointment> appointments = new AppointmentList();
 
     /**
      * Every field must be present and not null.
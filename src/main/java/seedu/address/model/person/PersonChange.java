@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import java.util.Optional;
+
+/**
+ * A change made to a single person in a {@code UniquePersonList}: a person added, edited or removed, or the
+ * appointments of a person changed in place. An edited person keeps its place in the list, even if it is renamed,
+ * and an added person is added to the end of the list.
+ * Guarantees: immutable
+ */
+public class PersonChange {
+
+    private final Name oldName;
+    private final Name newName;
+    private final long version;
+
+    /**
+     * Constructs a {@code PersonChange} that changes the person named {@code oldName}, or adds a person if it is
+     * null, into the person named {@code newName}, or removes the person if it is null, making the list reach
+     * {@code version}. The names cannot both be null.
+     */
+    PersonChange(Name oldName, Name newName, long version) {
+        assert oldName != null || newName != null;
+        this.oldName = oldName;
+        this.newName = newName;
+        this.version = version;
+    }
+
+    public boolean isAddition() {
+        return oldName == null;
+    }
+
+    public boolean isRemoval() {
+        return newName == null;
+    }
+
+    /**
+     * Returns true if an existing person was renamed.
+     */
+    public boolean isRename() {
+        return !isAddition() && !isRemoval() && !oldName.equals(newName);
+    }
+
+    /**
+     * Returns the name of the person before the change, unless the person was added.
+     */
+    public Optional<Name> getOldName() {
+        return Optional.ofNullable(oldName);
+    }
+
+    /**
+     * Returns the name of the person after the change, unless the person was removed.
+     */
+    public Optional<Name> getNewName() {
+        return Optional.ofNullable(newName);
+    }
+
+    long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        if (isAddition()) {
+            return "added " + newName;
+        }
+        if (isRemoval()) {
+            return "removed " + oldName;
+        }
+        return isRename() ? "renamed " + oldName + " to " + newName : "edited " + oldName;
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.model.person;
+
+/**
+ * An index of the persons in a {@code UniquePersonList}, used to look up the persons a find matches instead of
+ * testing every person against it.
+ * Persons are recorded in the index by their ordinal in the list, see {@link UniquePersonList#getListOrder()},
+ * so that the persons found are collected in a {@code BitSet} and listed in the order of the list.
+ */
+abstract class PersonIndex {
+
+    /**
+     * Records {@code person}, which has {@code ordinal} in the list, in the index.
+     */
+    abstract void add(Person person, int ordinal);
+
+    /**
+     * Removes {@code person}, which has {@code ordinal} in the list, from the index.
+     */
+    abstract void remove(Person person, int ordinal);
+
+    abstract void clear();
+}
@@ -0,0 +1,64 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The persons in a {@code UniquePersonList} that a find matches, looked up in the indexes of the list by their
+ * ordinals, so that they are listed without testing every person in the list against the find.
+ * The matches only hold until the list is next modified.
+ */
+public class PersonMatches {
+
+    private final UniquePersonList persons;
+    private final BitSet ordinals;
+    private final Comparator<Person> ranking;
+
+    /**
+     * Constructs the matches of the persons in {@code persons} with {@code ordinals}, ranked by {@code ranking} if it
+     * is not null.
+     */
+    PersonMatches(UniquePersonList persons, BitSet ordinals, Comparator<Person> ranking) {
+        requireAllNonNull(persons, ordinals);
+        this.persons = persons;
+        this.ordinals = ordinals;
+        this.ranking = ranking;
+    }
+
+    /**
+     * Returns true if {@code person} is one of the persons matched.
+     */
+    public boolean contains(Person person) {
+        int ordinal = persons.getOrdinal(person);
+        return ordinal != -1 && ordinals.get(ordinal);
+    }
+
+    /**
+     * Returns the persons matched, in the order of the list.
+     */
+    public List<Person> toList() {
+        return persons.getPersonsAt(ordinals);
+    }
+
+    /**
+     * Returns the persons matched by either these matches or {@code other}, ranked like these matches if they are
+     * ranked, or else like {@code other}.
+     */
+    public PersonMatches or(PersonMatches other) {
+        assert other.persons == persons;
+        BitSet mergedOrdinals = (BitSet) ordinals.clone();
+        mergedOrdinals.or(other.ordinals);
+        return new PersonMatches(persons, mergedOrdinals, ranking != null ? ranking : other.ranking);
+    }
+
+    /**
+     * Returns the order in which the persons matched should be listed, if the find ranks them.
+     */
+    public Optional<Comparator<Person>> getRanking() {
+        return Optional.ofNullable(ranking);
+    }
+}
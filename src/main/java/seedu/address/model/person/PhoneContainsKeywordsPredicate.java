@@ -1,7 +1,9 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 
@@ -9,7 +11,6 @@ import seedu.address.commons.util.StringUtil;
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class PhoneContainsKeywordsPredicate extends FindPredicate {
-    private final List<String> phones;
 
     /**
      * Constructs a {@code PhoneContainsKeywordsPredicate}.
@@ -18,20 +19,25 @@ public class PhoneContainsKeywordsPredicate extends FindPredicate {
      */
     public PhoneContainsKeywordsPredicate(List<String> phones) {
         super(phones);
-        this.phones = phones.stream().map(x -> x.toUpperCase()).collect(Collectors.toList());
     }
 
     @Override
-    public boolean test(Person person) {
-        return phones.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getPhone().value, keyword));
+    protected Predicate<Person> compile() {
+        String[] words = getTrimmedKeywords();
+        return person -> StringUtil.containsAnyWordIgnoreCase(person.getPhone().value, words);
+    }
+
+    @Override
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        BitSet ordinals = persons.getPhoneIndex().lookUp(getTrimmedKeywords());
+        return Optional.of(new PersonMatches(persons, ordinals, null));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof PhoneContainsKeywordsPredicate // instanceof handles nulls
-                && phones.equals(((PhoneContainsKeywordsPredicate) other).phones)); // state check
+                && getKeywords().equals(((PhoneContainsKeywordsPredicate) other).getKeywords())); // state check
     }
 
 }
@@ -1,16 +1,14 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-import seedu.address.model.tag.Tag;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class PlanTagContainsKeywordsPredicate extends FindPredicate {
-    private final List<String> planTags;
     /**
      * Constructs a {@code PlanTagContainsKeywordsPredicate}.
      *
@@ -18,28 +16,30 @@ public class PlanTagContainsKeywordsPredicate extends FindPredicate {
      */
     public PlanTagContainsKeywordsPredicate(List<String> planTags) {
         super(planTags);
-        this.planTags = planTags.stream().map(x -> x.toUpperCase()).collect(Collectors.toList());
     }
 
     @Override
-    public boolean test(Person person) {
-        Set<Tag> personTags = person.getSpecialTags();
-        for (String predicateTagName : planTags) {
-            for (Tag personsTag : personTags) {
-                if (personsTag.tagName.equalsIgnoreCase(predicateTagName)) {
-                    return true;
-                }
-            }
-        }
+    protected Predicate<Person> compile() {
+        String[] tagNames = getKeywords().toArray(new String[0]);
+        return person -> hasSpecialTagNamedAny(person, tagNames);
+    }
+
+    @Override
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        BitSet ordinals = persons.getSpecialTagIndex().lookUp(getKeywords().toArray(new String[0]));
+        return Optional.of(new PersonMatches(persons, ordinals, null));
+    }
 
-        return false;
+    @Override
+    protected int getCostPerKeyword() {
+        return SPECIAL_TAG_COMPARISON_COST;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof PlanTagContainsKeywordsPredicate // instanceof handles nulls
-                && planTags.equals(((PlanTagContainsKeywordsPredicate) other).planTags)); // state check
+                && getKeywords().equals(((PlanTagContainsKeywordsPredicate) other).getKeywords())); // state check
     }
 
 }
@@ -1,16 +1,14 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-import seedu.address.model.tag.Tag;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class RiskTagContainsKeywordsPredicate extends FindPredicate {
-    private final List<String> riskTags;
 
     /**
      * Constructs a {@code RiskTagContainsKeywordsPredicate}.
@@ -19,27 +17,30 @@ public class RiskTagContainsKeywordsPredicate extends FindPredicate {
      */
     public RiskTagContainsKeywordsPredicate(List<String> riskTags) {
         super(riskTags);
-        this.riskTags = riskTags.stream().map(x -> x.toUpperCase()).collect(Collectors.toList());
     }
 
     @Override
-    public boolean test(Person person) {
-        Set<Tag> personTags = person.getSpecialTags();
-        for (String predicateTagName : riskTags) {
-            for (Tag personsTag : personTags) {
-                if (personsTag.tagName.equalsIgnoreCase(predicateTagName)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+    protected Predicate<Person> compile() {
+        String[] tagNames = getKeywords().toArray(new String[0]);
+        return person -> hasSpecialTagNamedAny(person, tagNames);
+    }
+
+    @Override
+    public Optional<PersonMatches> lookUpIn(UniquePersonList persons) {
+        BitSet ordinals = persons.getSpecialTagIndex().lookUp(getKeywords().toArray(new String[0]));
+        return Optional.of(new PersonMatches(persons, ordinals, null));
+    }
+
+    @Override
+    protected int getCostPerKeyword() {
+        return SPECIAL_TAG_COMPARISON_COST;
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof RiskTagContainsKeywordsPredicate // instanceof handles nulls
-                && riskTags.equals(((RiskTagContainsKeywordsPredicate) other).riskTags)); // state check
+                && getKeywords().equals(((RiskTagContainsKeywordsPredicate) other).getKeywords())); // state check
     }
 
 }
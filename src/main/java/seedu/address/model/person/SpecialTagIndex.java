@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the persons in a {@code UniquePersonList} by their risk, plan and client tags.
+ * Since there are only a few tag names, each with many persons, the persons with a tag name are listed as a
+ * {@code BitSet} of their ordinals, which the list keeps to about twice the number of persons. A find by special
+ * tags is looked up by or-ing the sets of its tag names, and the number of persons in each risk and client segment
+ * is the cardinality of its set.
+ */
+class SpecialTagIndex extends PersonIndex {
+
+    private final Map<String, BitSet> riskTagPostings = new HashMap<>();
+    private final Map<String, BitSet> planTagPostings = new HashMap<>();
+    private final Map<String, BitSet> clientTagPostings = new HashMap<>();
+    private final List<Map<String, BitSet>> allPostings =
+            List.of(riskTagPostings, planTagPostings, clientTagPostings);
+
+    @Override
+    void add(Person person, int ordinal) {
+        post(riskTagPostings, person.getRiskTag(), ordinal);
+        post(planTagPostings, person.getPlanTag(), ordinal);
+        post(clientTagPostings, person.getClientTag(), ordinal);
+    }
+
+    @Override
+    void remove(Person person, int ordinal) {
+        unpost(riskTagPostings, person.getRiskTag(), ordinal);
+        unpost(planTagPostings, person.getPlanTag(), ordinal);
+        unpost(clientTagPostings, person.getClientTag(), ordinal);
+    }
+
+    @Override
+    void clear() {
+        allPostings.forEach(Map::clear);
+    }
+
+    /**
+     * Returns the ordinals of the persons with any special tag named any of {@code tagNames}, ignoring case.
+     */
+    BitSet lookUp(String[] tagNames) {
+        requireNonNull(tagNames);
+        BitSet matches = new BitSet();
+        for (String tagName : tagNames) {
+            String normalizedTagName = tagName.toUpperCase();
+            for (Map<String, BitSet> postings : allPostings) {
+                BitSet ordinalsWithTag = postings.get(normalizedTagName);
+                if (ordinalsWithTag != null) {
+                    matches.or(ordinalsWithTag);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons with each risk tag, by tag name.
+     */
+    Map<String, Integer> getRiskTagCounts() {
+        return getCounts(riskTagPostings);
+    }
+
+    /**
+     * Returns the number of persons with each client tag, by tag name.
+     */
+    Map<String, Integer> getClientTagCounts() {
+        return getCounts(clientTagPostings);
+    }
+
+    private static Map<String, Integer> getCounts(Map<String, BitSet> postings) {
+        Map<String, Integer> counts = new TreeMap<>();
+        postings.forEach((tagName, ordinalsWithTag) -> counts.put(tagName, ordinalsWithTag.cardinality()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private static void post(Map<String, BitSet> postings, Tag tag, int ordinal) {
+        if (tag == null) {
+            return;
+        }
+        postings.computeIfAbsent(tag.tagName.toUpperCase(), unused -> new BitSet()).set(ordinal);
+    }
+
+    private static void unpost(Map<String, BitSet> postings, Tag tag, int ordinal) {
+        if (tag == null) {
+            return;
+        }
+        String normalizedTagName = tag.tagName.toUpperCase();
+        BitSet ordinalsWithTag = postings.get(normalizedTagName);
+        if (ordinalsWithTag == null) {
+            return;
+        }
+        ordinalsWithTag.clear(ordinal);
+        if (ordinalsWithTag.isEmpty()) {
+            postings.remove(normalizedTagName);
+        }
+    }
+}
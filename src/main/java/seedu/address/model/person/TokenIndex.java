@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * An inverted index from the upper-cased tokens of the persons in a {@code UniquePersonList},
+ * such as the words of their {@code Name}, to the ordinals of the persons with each token.
+ * A find by any of several keywords is looked up by merging the ordinals listed under each keyword,
+ * instead of splitting and comparing the field of every person.
+ */
+class TokenIndex extends PersonIndex {
+
+    private final Function<Person, Collection<String>> tokensOf;
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index of persons by the tokens given by {@code tokensOf}.
+     * Tokens are compared ignoring case.
+     */
+    TokenIndex(Function<Person, Collection<String>> tokensOf) {
+        this.tokensOf = requireNonNull(tokensOf);
+    }
+
+    @Override
+    void add(Person person, int ordinal) {
+        for (String token : tokensOf.apply(person)) {
+            postings.computeIfAbsent(token.toUpperCase(), unused -> new HashSet<>(2)).add(ordinal);
+        }
+    }
+
+    @Override
+    void remove(Person person, int ordinal) {
+        for (String token : tokensOf.apply(person)) {
+            String normalizedToken = token.toUpperCase();
+            Set<Integer> ordinalsWithToken = postings.get(normalizedToken);
+            if (ordinalsWithToken == null) {
+                continue;
+            }
+            ordinalsWithToken.remove(ordinal);
+            if (ordinalsWithToken.isEmpty()) {
+                postings.remove(normalizedToken);
+            }
+        }
+    }
+
+    @Override
+    void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the ordinals of the persons with any of {@code keywords} as one of their tokens, ignoring case.
+     */
+    BitSet lookUp(String[] keywords) {
+        requireNonNull(keywords);
+        BitSet matches = new BitSet();
+        for (String keyword : keywords) {
+            Set<Integer> ordinalsWithToken = postings.get(keyword.toUpperCase());
+            if (ordinalsWithToken != null) {
+                ordinalsWithToken.forEach(matches::set);
+            }
+        }
+        return matches;
+    }
+}
@@ -3,15 +3,31 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import javafx.collections.WeakListChangeListener;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.MaximumSortedList;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,22 +36,74 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since a person's identity is its {@code Name}, a name-keyed index is kept alongside the backing list so that
+ * identity checks do not need to scan the whole list. Likewise, every appointment held by a person in the list is
+ * recorded in an {@code AppointmentSlotIndex}, which is kept up to date by listening to each person's appointments.
+ * Persons are also indexed by the words of their name, their phone and their tags, so that the persons a find by
+ * keywords matches can be looked up by each keyword. The special tag index also keeps the size of each risk and
+ * client segment, and the fuzzy name index finds the names within a few typing mistakes of a keyword. Persons are
+ * kept in order of their income and of their monthly contribution too, so that a find by either is looked up as a
+ * range of values. These lookup indexes are only built the first time they are used, so that copies of the list
+ * that are never searched, such as the snapshots being saved, do not pay for them.
+ *
+ * The lookup indexes record each person by its ordinal, a number that increases along the list and that a person
+ * keeps while it stays in the list, even if it is edited. The persons found are collected in a {@code BitSet} of
+ * ordinals, which lists them in the order of the list without looking at the persons that were not found. The
+ * ordinals of removed persons are not reused until the persons are numbered again, which happens when the persons
+ * are replaced or reordered, or once most ordinals are unused.
+ *
+ * Every addition, edit and removal of a person, and every change to the appointments of a person, is recorded as
+ * a {@code PersonChange}, so that a copy of the list can be brought up to date by applying the changes made since
+ * it was taken instead of copying every person again. Only the latest changes are kept, and the changes are
+ * forgotten once the persons are replaced or reordered.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    /** The fewest unused ordinals left before the persons are numbered again, however few persons there are. */
+    private static final int MIN_UNUSED_ORDINALS_KEPT = 64;
+
+    /** The fewest changes kept, however few persons there are. */
+    private static final int MIN_CHANGES_KEPT = 64;
+
+    /** The latest version of any list, so that versions are never shared between different lists. */
+    private static final AtomicLong latestVersion = new AtomicLong();
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> nameIndex = new HashMap<>();
+    private final Map<Name, Integer> ordinals = new HashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Map<Name, AppointmentSlotTracker> appointmentSlotTrackers = new HashMap<>();
+    private final AppointmentSlotIndex appointmentSlotIndex = new AppointmentSlotIndex();
+    private final TokenIndex nameWordIndex =
+            new TokenIndex(person -> person.getName().getWords());
+    private final TokenIndex phoneIndex =
+            new TokenIndex(person -> Collections.singletonList(person.getPhone().value));
+    private final TokenIndex tagIndex = new TokenIndex(person -> person.getTags().stream()
+            .map(tag -> tag.tagName)
+            .collect(Collectors.toList()));
+    private final SpecialTagIndex specialTagIndex = new SpecialTagIndex();
+    private final MonetaryValueIndex<Income> incomeIndex = new MonetaryValueIndex<>(Person::getIncome);
+    private final MonetaryValueIndex<Monthly> monthlyIndex = new MonetaryValueIndex<>(Person::getMonthly);
+    private final FuzzyNameIndex fuzzyNameIndex = new FuzzyNameIndex();
+    private final NameCompletionIndex nameCompletionIndex = new NameCompletionIndex();
+    private final List<PersonIndex> builtFindIndexes = new ArrayList<>();
+    private boolean isNameCompletionIndexKept;
+    private final List<PersonChange> changes = new ArrayList<>();
+    private long version = latestVersion.incrementAndGet();
+    private long changesStartVersion = version;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -43,14 +111,128 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsPersonWithSameAppointmentDateTime(Appointment toCheck) {
         requireNonNull(toCheck);
-        for (Person person:internalUnmodifiableList) {
-            for (Appointment appointment: person.getAppointments().getObservableList()) {
-                if (appointment.getDateTime().equals(toCheck.getDateTime())) {
-                    return true;
-                }
+        return appointmentSlotIndex.isBooked(toCheck);
+    }
+
+    /**
+     * Returns a read-only view of the appointment slots booked from {@code from} to {@code to}, both inclusive,
+     * mapped to the persons holding them.
+     */
+    public NavigableMap<LocalDateTime, List<Person>> getBookedSlotsBetween(LocalDateTime from, LocalDateTime to) {
+        return appointmentSlotIndex.getSlotsBetween(from, to);
+    }
+
+    /**
+     * Returns the persons in the list that pass any of {@code predicates}, looked up in the indexes of the list,
+     * or an empty {@code Optional} if any of the predicates cannot be looked up, in which case the persons have to
+     * be tested against them instead.
+     */
+    public Optional<PersonMatches> lookUp(List<? extends Predicate<Person>> predicates) {
+        requireAllNonNull(predicates);
+        PersonMatches matches = new PersonMatches(this, new BitSet(), null);
+        for (Predicate<Person> predicate : predicates) {
+            Optional<PersonMatches> predicateMatches = predicate instanceof FindPredicate
+                    ? ((FindPredicate) predicate).lookUpIn(this)
+                    : Optional.empty();
+            if (predicateMatches.isEmpty()) {
+                return Optional.empty();
             }
+            matches = matches.or(predicateMatches.get());
+        }
+        return Optional.of(matches);
+    }
+
+    /**
+     * Returns the order of the persons in the list, which compares persons in the list by their place in it
+     * without looking them up in the list.
+     */
+    public Comparator<Person> getListOrder() {
+        return Comparator.comparingInt(this::getOrdinal);
+    }
+
+    /**
+     * Returns the ordinal of the person with the same identity as {@code person}, or -1 if there is none in the list.
+     */
+    int getOrdinal(Person person) {
+        Integer ordinal = ordinals.get(person.getName());
+        return ordinal != null ? ordinal : -1;
+    }
+
+    Person getPersonAt(int ordinal) {
+        return personsByOrdinal.get(ordinal);
+    }
+
+    /**
+     * Returns the persons with {@code ordinals}, in the order of the list.
+     */
+    List<Person> getPersonsAt(BitSet ordinals) {
+        List<Person> persons = new ArrayList<>(ordinals.cardinality());
+        for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+            persons.add(personsByOrdinal.get(ordinal));
+        }
+        return persons;
+    }
+
+    TokenIndex getNameWordIndex() {
+        return getBuilt(nameWordIndex);
+    }
+
+    TokenIndex getPhoneIndex() {
+        return getBuilt(phoneIndex);
+    }
+
+    TokenIndex getTagIndex() {
+        return getBuilt(tagIndex);
+    }
+
+    SpecialTagIndex getSpecialTagIndex() {
+        return getBuilt(specialTagIndex);
+    }
+
+    MonetaryValueIndex<Income> getIncomeIndex() {
+        return getBuilt(incomeIndex);
+    }
+
+    MonetaryValueIndex<Monthly> getMonthlyIndex() {
+        return getBuilt(monthlyIndex);
+    }
+
+    FuzzyNameIndex getFuzzyNameIndex() {
+        return getBuilt(fuzzyNameIndex);
+    }
+
+    /**
+     * Keeps the name completion index up to date from now on, building it now if it is not kept already, so that
+     * getting name completions never has to build it. Only a list that names are completed from needs it.
+     */
+    public void keepNameCompletionIndex() {
+        if (!isNameCompletionIndexKept) {
+            internalList.forEach(person -> nameCompletionIndex.add(person.getName().getWords()));
+            isNameCompletionIndexKept = true;
         }
-        return false;
+    }
+
+    /**
+     * Returns up to {@code limit} words of the names of persons in the list that start with {@code prefix},
+     * ignoring case, in alphabetical order.
+     */
+    public List<String> getNameCompletions(String prefix, int limit) {
+        keepNameCompletionIndex();
+        return nameCompletionIndex.getCompletions(prefix, limit);
+    }
+
+    /**
+     * Returns the number of persons in the list with each risk tag, by tag name.
+     */
+    public Map<String, Integer> getRiskTagCounts() {
+        return getSpecialTagIndex().getRiskTagCounts();
+    }
+
+    /**
+     * Returns the number of persons in the list with each client tag, by tag name.
+     */
+    public Map<String, Integer> getClientTagCounts() {
+        return getSpecialTagIndex().getClientTagCounts();
     }
 
     /**
@@ -62,7 +244,34 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        // numbered before the list changes, so that the listeners of the list can already order the person
+        int ordinal = assignOrdinal(toAdd);
         internalList.add(toAdd);
+        index(toAdd, ordinal);
+        recordChange(null, toAdd.getName());
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list as a single change to the list.
+     * None of the persons can already exist in the list or appear in {@code toAdd} more than once.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> addedNames = new HashSet<>();
+        for (Person person : toAdd) {
+            if (contains(person) || !addedNames.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+        int firstOrdinal = personsByOrdinal.size();
+        toAdd.forEach(this::assignOrdinal);
+        internalList.addAll(toAdd);
+        for (int i = 0; i < toAdd.size(); i++) {
+            index(toAdd.get(i), firstOrdinal + i);
+        }
+        version = latestVersion.incrementAndGet();
+        toAdd.forEach(person -> changes.add(new PersonChange(null, person.getName(), version)));
+        forgetChangesIfTooMany();
     }
 
     /**
@@ -82,7 +291,14 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        // the edited person takes over the ordinal of the person it replaces
+        int ordinal = ordinals.remove(target.getName());
+        ordinals.put(editedPerson.getName(), ordinal);
+        personsByOrdinal.set(ordinal, editedPerson);
         internalList.set(index, editedPerson);
+        unindex(target, ordinal);
+        index(editedPerson, ordinal);
+        recordChange(target.getName(), editedPerson.getName());
     }
 
     /**
@@ -94,11 +310,19 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        int ordinal = ordinals.remove(toRemove.getName());
+        personsByOrdinal.set(ordinal, null);
+        unindex(toRemove, ordinal);
+        recordChange(toRemove.getName(), null);
+        renumberIfMostlyUnused();
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        renumber(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
+        forgetChanges();
     }
 
     /**
@@ -111,7 +335,60 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        renumber(persons);
         internalList.setAll(persons);
+        rebuildIndexes();
+        forgetChanges();
+    }
+
+    /**
+     * Returns a number that increases whenever the persons in the list, their appointments or their order change.
+     * It does not change when nothing is modified, so an unchanged list need not be saved again.
+     * No two lists ever share a version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes made to the persons since the list was at {@code version}, in the order they were made,
+     * or an empty {@code Optional} if they are not known. They are not known if {@code version} is not a version of
+     * this list, if the persons were replaced or reordered since, or if there have been too many changes since.
+     */
+    public Optional<List<PersonChange>> getChangesSince(long version) {
+        if (version == this.version) {
+            return Optional.of(Collections.emptyList());
+        }
+        if (version == changesStartVersion) {
+            return Optional.of(List.copyOf(changes));
+        }
+        if (version < changesStartVersion || version > this.version) {
+            return Optional.empty();
+        }
+
+        // changes are recorded in order of version, so the changes after the version follow the last one reaching it
+        int low = 0;
+        int high = changes.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (changes.get(middle).getVersion() <= version) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        if (low == 0 || changes.get(low - 1).getVersion() != version) {
+            return Optional.empty();
+        }
+        return Optional.of(List.copyOf(changes.subList(low, changes.size())));
+    }
+
+    /**
+     * Returns the person named {@code name}, if it is in the list.
+     */
+    public Optional<Person> getPerson(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(nameIndex.get(name));
     }
 
     /**
@@ -142,17 +419,191 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
     }
 
+    /**
+     * Returns {@code findIndex}, after recording every person in the list in it if it has not been used before.
+     * From then on, it is kept up to date along with the other indexes until the persons are replaced.
+     */
+    private <T extends PersonIndex> T getBuilt(T findIndex) {
+        if (!builtFindIndexes.contains(findIndex)) {
+            internalList.forEach(person -> findIndex.add(person, ordinals.get(person.getName())));
+            builtFindIndexes.add(findIndex);
+        }
+        return findIndex;
+    }
+
+    /**
+     * Records {@code person}, which has {@code ordinal}, in the name index and the lookup indexes built so far,
+     * and starts tracking its appointments.
+     */
+    private void index(Person person, int ordinal) {
+        nameIndex.put(person.getName(), person);
+        if (isNameCompletionIndexKept) {
+            nameCompletionIndex.add(person.getName().getWords());
+        }
+        for (PersonIndex findIndex : builtFindIndexes) {
+            findIndex.add(person, ordinal);
+        }
+        AppointmentSlotTracker tracker = new AppointmentSlotTracker(person);
+        appointmentSlotTrackers.put(person.getName(), tracker);
+        tracker.attach();
+    }
+
+    /**
+     * Removes the person with the same identity as {@code person} from the name and name completion indexes,
+     * removes {@code person}, which had {@code ordinal}, from the find indexes built so far and stops tracking its
+     * appointments.
+     */
+    private void unindex(Person person, int ordinal) {
+        if (nameIndex.remove(person.getName()) != null && isNameCompletionIndexKept) {
+            nameCompletionIndex.remove(person.getName().getWords());
+        }
+        for (PersonIndex findIndex : builtFindIndexes) {
+            findIndex.remove(person, ordinal);
+        }
+        AppointmentSlotTracker tracker = appointmentSlotTrackers.remove(person.getName());
+        if (tracker != null) {
+            tracker.detach();
+        }
+    }
+
+    /**
+     * Rebuilds the name, appointment slot and name completion indexes, if it is kept, from the contents of the
+     * backing list, which must have been numbered already. The lookup indexes are discarded, and only built again
+     * the next time they are used.
+     */
+    private void rebuildIndexes() {
+        appointmentSlotTrackers.values().forEach(AppointmentSlotTracker::detach);
+        appointmentSlotTrackers.clear();
+        nameIndex.clear();
+        discardFindIndexes();
+        appointmentSlotIndex.clear();
+        nameCompletionIndex.clear();
+        for (Person person : internalList) {
+            index(person, ordinals.get(person.getName()));
+        }
+    }
+
+    private void discardFindIndexes() {
+        builtFindIndexes.forEach(PersonIndex::clear);
+        builtFindIndexes.clear();
+    }
+
+    /**
+     * Gives {@code person} the next ordinal, after those of every person in the list, and returns it.
+     */
+    private int assignOrdinal(Person person) {
+        int ordinal = personsByOrdinal.size();
+        ordinals.put(person.getName(), ordinal);
+        personsByOrdinal.add(person);
+        return ordinal;
+    }
+
+    /**
+     * Numbers {@code persons}, which are about to make up the list, in their order from zero.
+     * The find indexes must be discarded afterwards, since they record the persons by their old ordinals.
+     */
+    private void renumber(List<Person> persons) {
+        ordinals.clear();
+        personsByOrdinal.clear();
+        persons.forEach(this::assignOrdinal);
+    }
+
+    /**
+     * Numbers the persons again once more than half of the ordinals given out belong to removed persons, so that the
+     * ordinals do not keep growing as persons are added and removed.
+     */
+    private void renumberIfMostlyUnused() {
+        if (personsByOrdinal.size() > 2 * internalList.size() + MIN_UNUSED_ORDINALS_KEPT) {
+            renumber(internalList);
+            discardFindIndexes();
+        }
+    }
+
+    /**
+     * Sorts the persons in the list by {@code comparator}, then numbers them again in their new order.
+     */
     public void sortPersons(Comparator<Person> comparator) {
         internalList.sort(comparator);
+        renumber(internalList);
+        discardFindIndexes();
+        forgetChanges();
+    }
+
+    /**
+     * Moves the list to a new version, reached by changing the person named {@code oldName} into the person named
+     * {@code newName}, see {@link PersonChange}.
+     */
+    private void recordChange(Name oldName, Name newName) {
+        version = latestVersion.incrementAndGet();
+        changes.add(new PersonChange(oldName, newName, version));
+        forgetChangesIfTooMany();
+    }
+
+    /**
+     * Forgets the changes kept once there are more than a quarter as many of them as persons, since a copy of the
+     * list that far behind costs about as much to bring up to date as to take again.
+     */
+    private void forgetChangesIfTooMany() {
+        if (changes.size() > Math.max(MIN_CHANGES_KEPT, internalList.size() / 4)) {
+            changes.clear();
+            changesStartVersion = version;
+        }
+    }
+
+    /**
+     * Moves the list to a new version, reached by a change that is not recorded, such as reordering the persons,
+     * and forgets the changes kept.
+     */
+    private void forgetChanges() {
+        version = latestVersion.incrementAndGet();
+        changes.clear();
+        changesStartVersion = version;
+    }
+
+    /**
+     * Keeps the appointment slot index in sync with the appointments of a single person.
+     * It is registered through a {@code WeakListChangeListener} so that a discarded list does not stay reachable
+     * from appointment lists shared with other lists.
+     */
+    private class AppointmentSlotTracker implements ListChangeListener<Appointment> {
+        private final Person owner;
+        private final MaximumSortedList<Appointment> appointments;
+        private final WeakListChangeListener<Appointment> weakListener = new WeakListChangeListener<>(this);
+
+        AppointmentSlotTracker(Person owner) {
+            this.owner = owner;
+            this.appointments = owner.getAppointments();
+        }
+
+        void attach() {
+            appointments.forEach(appointment -> appointmentSlotIndex.add(owner, appointment));
+            appointments.addListener(weakListener);
+        }
+
+        void detach() {
+            appointments.removeListener(weakListener);
+            appointments.forEach(appointment -> appointmentSlotIndex.remove(owner, appointment));
+        }
+
+        @Override
+        public void onChanged(Change<? extends Appointment> change) {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(appointment -> appointmentSlotIndex.remove(owner, appointment));
+                change.getAddedSubList().forEach(appointment -> appointmentSlotIndex.add(owner, appointment));
+            }
+            recordChange(owner.getName(), owner.getName());
+        }
     }
 }
@@ -1,7 +1,10 @@
 package seedu.address.model.tag;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+
 /**
  * Represents a ClientTag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,7 +16,11 @@ public class ClientTag extends SpecialTag {
     public static final String CURRENT = "CURRENT";
     public static final String POTENTIAL = "POTENTIAL";
 
-    private int type;
+    /** The canonical instance of each {@code ClientTag}, shared by every person with that tag. */
+    private static final Map<String, ClientTag> CANONICAL_TAGS = Map.of(
+            CURRENT, new ClientTag(CURRENT), POTENTIAL, new ClientTag(POTENTIAL));
+
+    private final int type;
 
     /**
      * Constructs a {@code Tag}.
@@ -23,25 +30,25 @@ public class ClientTag extends SpecialTag {
     public ClientTag(String tagName) {
         super(tagName);
         checkArgument(isValidClientTagName(tagName), MESSAGE_CONSTRAINTS);
-        // only setRisk after we are sure that tagName is valid
-        this.type = setClient(tagName);
+        // only compute the type after we are sure that tagName is valid
+        this.type = toType(tagName);
     }
 
     public int getType() {
         return this.type;
     }
 
-    public int setClient(String tagName) {
+    private static int toType(String tagName) {
         switch (tagName) {
 
         case CURRENT:
-            return this.type = 1;
+            return 1;
 
         case POTENTIAL:
-            return this.type = 2;
+            return 2;
 
         default:
-            return this.type = 0;
+            return 0;
         }
     }
 
@@ -55,6 +62,18 @@ public class ClientTag extends SpecialTag {
                 || POTENTIAL.equalsIgnoreCase(tag);
     }
 
+    /**
+     * Returns the canonical {@code ClientTag} named {@code tagName}.
+     * Prefer this over the constructor, as tags with the same name are interchangeable.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static ClientTag of(String tagName) {
+        requireNonNull(tagName);
+        checkArgument(isValidClientTagName(tagName), MESSAGE_CONSTRAINTS);
+        return CANONICAL_TAGS.get(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -1,7 +1,10 @@
 package seedu.address.model.tag;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Map;
+
 /**
  * Represents a RiskTag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -14,7 +17,11 @@ public class RiskTag extends SpecialTag {
     public static final String LOW = "LOW";
     public static final String MEDIUM = "MEDIUM";
 
-    private int risk;
+    /** The canonical instance of each {@code RiskTag}, shared by every person with that tag. */
+    private static final Map<String, RiskTag> CANONICAL_TAGS = Map.of(
+            HIGH, new RiskTag(HIGH), MEDIUM, new RiskTag(MEDIUM), LOW, new RiskTag(LOW));
+
+    private final int risk;
 
     /**
      * Constructs a {@code Tag}.
@@ -24,28 +31,28 @@ public class RiskTag extends SpecialTag {
     public RiskTag(String tagName) {
         super(tagName);
         checkArgument(isValidRiskTagName(tagName), MESSAGE_CONSTRAINTS);
-        // only setRisk after we are sure that tagName is valid
-        this.risk = setRisk(tagName);
+        // only compute the risk after we are sure that tagName is valid
+        this.risk = toRisk(tagName);
     }
 
     public int getRisk() {
         return this.risk;
     }
 
-    public int setRisk(String tagName) {
+    private static int toRisk(String tagName) {
         switch (tagName) {
 
         case HIGH:
-            return this.risk = 3;
+            return 3;
 
         case MEDIUM:
-            return this.risk = 2;
+            return 2;
 
         case LOW:
-            return this.risk = 1;
+            return 1;
 
         default:
-            return this.risk = 0;
+            return 0;
         }
     }
 
@@ -60,6 +67,18 @@ public class RiskTag extends SpecialTag {
                 || LOW.equalsIgnoreCase(tag);
     }
 
+    /**
+     * Returns the canonical {@code RiskTag} named {@code tagName}.
+     * Prefer this over the constructor, as tags with the same name are interchangeable.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static RiskTag of(String tagName) {
+        requireNonNull(tagName);
+        checkArgument(isValidRiskTagName(tagName), MESSAGE_CONSTRAINTS);
+        return CANONICAL_TAGS.get(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
@@ -6,6 +6,7 @@ import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.util.exceptions.SortedListException;
 
@@ -15,7 +16,8 @@ import seedu.address.model.util.exceptions.SortedListException;
  * the Object uses T::equals for equality to ensure that the Object being added or updated is
  * unique in terms of identity in the MaximumSortedList. The list also enforces a maximum number of
  * elements at any point in time and guarantees that all the elements are sorted by comparing using
- * {@code T::compareTo}.
+ * {@code T::compareTo}. Elements are inserted at their binary-searched position, so every
+ * modification fires a single fine-grained change to listeners of the list.
  *
  * Supports a minimal set of list operations.
  */
@@ -34,6 +36,20 @@ public class MaximumSortedList<T extends Comparable<T>> {
         this.maxSize = maxSize;
     }
 
+    /**
+     * Creates a new MaximumSortedList object with the input maximum size
+     * that keeps its elements in the input backing list.
+     *
+     * @param backingList the empty list that stores the elements.
+     * @param maxSize the maximum number of elements allowed.
+     */
+    protected MaximumSortedList(ObservableList<T> backingList, int maxSize) {
+        requireNonNull(backingList);
+        assert backingList.isEmpty();
+        internalMaximumSortedList = backingList;
+        this.maxSize = maxSize;
+    }
+
     /**
      * Creates a new MaximumSortedList object with all the elements
      * of the input MaximumSortedList.
@@ -43,8 +59,8 @@ public class MaximumSortedList<T extends Comparable<T>> {
      */
     public MaximumSortedList(MaximumSortedList<T> previousMaximumSortedList) {
         this.maxSize = previousMaximumSortedList.maxSize;
-        internalMaximumSortedList = FXCollections.observableArrayList();
-        previousMaximumSortedList.forEach(internalMaximumSortedList::add);
+        internalMaximumSortedList =
+                FXCollections.observableArrayList(previousMaximumSortedList.internalMaximumSortedList);
     }
 
     public ObservableList<T> getObservableList() {
@@ -53,6 +69,24 @@ public class MaximumSortedList<T extends Comparable<T>> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Registers a listener that is notified whenever the elements of this list change.
+     *
+     * @param listener the listener to be notified.
+     */
+    public void addListener(ListChangeListener<? super T> listener) {
+        internalMaximumSortedList.addListener(listener);
+    }
+
+    /**
+     * Unregisters a listener previously added with {@link #addListener(ListChangeListener)}.
+     *
+     * @param listener the listener to be removed.
+     */
+    public void removeListener(ListChangeListener<? super T> listener) {
+        internalMaximumSortedList.removeListener(listener);
+    }
+
     /**
      * Adds the specified element to the list according to the sorted order.
      *
@@ -61,11 +95,14 @@ public class MaximumSortedList<T extends Comparable<T>> {
      */
     public boolean add(T t) {
         requireNonNull(t);
-        if (internalMaximumSortedList.size() >= maxSize || contains(t)) {
+        if (internalMaximumSortedList.size() >= maxSize) {
+            return false;
+        }
+        int searchResult = binarySearch(t);
+        if (searchResult >= 0) {
             return false;
         }
-        internalMaximumSortedList.add(t);
-        sort();
+        internalMaximumSortedList.add(-(searchResult + 1), t);
         return true;
     }
 
@@ -76,7 +113,7 @@ public class MaximumSortedList<T extends Comparable<T>> {
      * @return a boolean value describing whether the input element has been added.
      */
     public T get(int zeroBasedIndex) throws SortedListException {
-        if (zeroBasedIndex < 0 || zeroBasedIndex >= maxSize) {
+        if (zeroBasedIndex < 0 || zeroBasedIndex >= internalMaximumSortedList.size()) {
             throw new SortedListException("Error: The list does not contain the input zeroBasedIndex");
         }
         return internalMaximumSortedList.get(zeroBasedIndex);
@@ -92,7 +129,7 @@ public class MaximumSortedList<T extends Comparable<T>> {
      *         is invalid.
      */
     public T remove(int zeroBasedIndex) throws SortedListException {
-        if (zeroBasedIndex < 0 || zeroBasedIndex >= maxSize) {
+        if (zeroBasedIndex < 0 || zeroBasedIndex >= internalMaximumSortedList.size()) {
             throw new SortedListException("Error: The list does not contain the input zeroBasedIndex");
         }
         return internalMaximumSortedList.remove(zeroBasedIndex);
@@ -109,14 +146,8 @@ public class MaximumSortedList<T extends Comparable<T>> {
      */
     public T remove(T t) throws SortedListException {
         requireNonNull(t);
-        int indexToRemove = -1;
-        for (int i = 0; i < internalMaximumSortedList.size(); i++) {
-            if (t.equals(internalMaximumSortedList.get(i))) {
-                indexToRemove = i;
-                break;
-            }
-        }
-        if (indexToRemove == -1) {
+        int indexToRemove = binarySearch(t);
+        if (indexToRemove < 0) {
             throw new SortedListException("Error: The list does not contain the object");
         }
         return internalMaximumSortedList.remove(indexToRemove);
@@ -131,19 +162,7 @@ public class MaximumSortedList<T extends Comparable<T>> {
      */
     public boolean contains(T t) {
         requireNonNull(t);
-
-        int indexOfElement = -1;
-        for (int i = 0; i < internalMaximumSortedList.size(); i++) {
-            if (t.equals(internalMaximumSortedList.get(i))) {
-                indexOfElement = i;
-                break;
-            }
-        }
-        if (indexOfElement == -1) {
-            return false;
-        } else {
-            return true;
-        }
+        return binarySearch(t) >= 0;
     }
 
     public boolean isEmpty() {
@@ -162,25 +181,47 @@ public class MaximumSortedList<T extends Comparable<T>> {
         return internalMaximumSortedList.stream();
     }
 
+    /**
+     * Searches for the specified element using {@code T::compareTo} to narrow down its position
+     * and {@code T::equals} to identify it among elements that compare as equal to it.
+     *
+     * @param t the Comparable to be searched for.
+     * @return the index of the element if it is in the list, otherwise {@code (-(insertion point) - 1)},
+     *         where the insertion point is the index after every element that is not greater than it.
+     */
     private int binarySearch(T t) {
         int low = 0;
-        int high = internalMaximumSortedList.size() - 1;
-        while (low <= high) {
+        int high = internalMaximumSortedList.size();
+        while (low < high) {
             int mid = low + (high - low) / 2;
-            T currentValue = internalMaximumSortedList.get(mid);
-            if (currentValue.equals(t)) {
-                return mid;
-            } else if (currentValue.compareTo(t) > 0) {
-                high = mid - 1;
+            if (compareAt(mid, t) > 0) {
+                high = mid;
             } else {
                 low = mid + 1;
             }
         }
-        return -1;
+        for (int i = low - 1; i >= 0 && compareAt(i, t) == 0; i--) {
+            if (equalsAt(i, t)) {
+                return i;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Compares the element at {@code index} with {@code t} using {@code T::compareTo}.
+     * Lists whose backing list can compare its elements in place may override this to avoid reading them.
+     */
+    protected int compareAt(int index, T t) {
+        return internalMaximumSortedList.get(index).compareTo(t);
     }
 
-    private void sort() {
-        internalMaximumSortedList.sort(T::compareTo);
+    /**
+     * Returns true if the element at {@code index} is equal to {@code t} using {@code T::equals}.
+     * Lists whose backing list can compare its elements in place may override this to avoid reading them.
+     */
+    protected boolean equalsAt(int index, T t) {
+        return internalMaximumSortedList.get(index).equals(t);
     }
 
     @Override
@@ -0,0 +1,60 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Reads address book files, falling back to the backup of the previous version kept by
+ * {@link FileUtil#writeAtomicallyWithBackup} when the file itself cannot be read.
+ */
+class AddressBookBackup {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookBackup.class);
+
+    private AddressBookBackup() {}
+
+    /**
+     * Reads the address book at {@code filePath} with {@code reader}, or its backup if the file cannot be read.
+     *
+     * @throws DataConversionException if neither the file nor its backup is in the correct format.
+     */
+    static <T> T readWithFallback(Path filePath, AddressBookFileReader<T> reader) throws DataConversionException {
+        return readWithFallback(filePath, reader, reader);
+    }
+
+    /**
+     * Reads the address book at {@code filePath} with {@code reader}, or its backup with {@code backupReader}
+     * if the file cannot be read.
+     *
+     * @throws DataConversionException if neither the file nor its backup is in the correct format.
+     */
+    static <T> T readWithFallback(Path filePath, AddressBookFileReader<T> reader,
+            AddressBookFileReader<T> backupReader) throws DataConversionException {
+        requireNonNull(filePath);
+        try {
+            return reader.read(filePath);
+        } catch (DataConversionException e) {
+            Path backupPath = FileUtil.getBackupPath(filePath);
+            if (!Files.exists(backupPath)) {
+                throw e;
+            }
+            logger.warning("Reading the previous address book " + backupPath + " as " + filePath + " cannot be read");
+            return backupReader.read(backupPath);
+        }
+    }
+
+    /**
+     * Reads the address book in a single file, returning what was read, such as the address book itself.
+     */
+    @FunctionalInterface
+    interface AddressBookFileReader<T> {
+        T read(Path filePath) throws DataConversionException;
+    }
+}
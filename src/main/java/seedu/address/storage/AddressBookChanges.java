@@ -0,0 +1,107 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * The changes made to the persons of an address book between two of its versions, together with copies of the
+ * persons they leave behind, so that a copy of the address book taken at the first version can be brought up to
+ * the second on another thread, without copying the persons that did not change.
+ */
+class AddressBookChanges {
+
+    private final long fromVersion;
+    private final long toVersion;
+    private final List<PersonChange> changes;
+    private final Set<Name> changedNames;
+    private final Map<Name, Person> changedPersons;
+
+    private AddressBookChanges(long fromVersion, long toVersion, List<PersonChange> changes,
+            Set<Name> changedNames, Map<Name, Person> changedPersons) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.changes = changes;
+        this.changedNames = changedNames;
+        this.changedPersons = changedPersons;
+    }
+
+    /**
+     * Returns the changes made to {@code addressBook} since it was at {@code fromVersion}, or an empty
+     * {@code Optional} if they are not known.
+     */
+    static Optional<AddressBookChanges> of(ReadOnlyAddressBook addressBook, long fromVersion) {
+        requireNonNull(addressBook);
+        Optional<List<PersonChange>> changes = addressBook.getChangesSince(fromVersion);
+        if (changes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Name> changedNames = new HashSet<>();
+        for (PersonChange change : changes.get()) {
+            change.getOldName().ifPresent(changedNames::add);
+            change.getNewName().ifPresent(changedNames::add);
+        }
+        Map<Name, Person> changedPersons = new HashMap<>();
+        for (Name name : changedNames) {
+            addressBook.getPerson(name).ifPresent(person ->
+                    changedPersons.put(name, AddressBookSnapshot.copyOf(person)));
+        }
+        return Optional.of(new AddressBookChanges(fromVersion, addressBook.getVersion(), changes.get(),
+                changedNames, changedPersons));
+    }
+
+    /**
+     * Returns the changes made by these changes followed by {@code later}, which must start where these end.
+     */
+    AddressBookChanges followedBy(AddressBookChanges later) {
+        requireNonNull(later);
+        assert later.fromVersion == toVersion;
+        List<PersonChange> mergedChanges = new ArrayList<>(changes);
+        mergedChanges.addAll(later.changes);
+        Set<Name> mergedNames = new HashSet<>(changedNames);
+        mergedNames.addAll(later.changedNames);
+        Map<Name, Person> mergedPersons = new HashMap<>(changedPersons);
+        mergedPersons.keySet().removeAll(later.changedNames);
+        mergedPersons.putAll(later.changedPersons);
+        return new AddressBookChanges(fromVersion, later.toVersion, mergedChanges, mergedNames, mergedPersons);
+    }
+
+    long getFromVersion() {
+        return fromVersion;
+    }
+
+    long getToVersion() {
+        return toVersion;
+    }
+
+    List<PersonChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns true if any of the changes added, edited or removed a person named {@code name}.
+     */
+    boolean isChanged(Name name) {
+        return changedNames.contains(name);
+    }
+
+    /**
+     * Returns the copy of the person named {@code name} that the changes leave behind, if the name was changed
+     * and such a person is left.
+     */
+    Optional<Person> getChangedPerson(Name name) {
+        return Optional.ofNullable(changedPersons.get(name));
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Receives the persons of an address book as they are read, see
+ * {@link AddressBookStorage#readAddressBook(AddressBookLoader)}.
+ */
+public interface AddressBookLoader {
+
+    /**
+     * Receives the next {@code persons} read, in the order they are in the address book.
+     */
+    void load(List<Person> persons);
+
+    /**
+     * Discards all the persons received so far, as the file they were read from turned out not to be readable.
+     * The persons of another file, such as its backup, may be received after.
+     */
+    void discard();
+}
@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * A copy of the persons in an address book, taken so that it can be written to storage on another thread
+ * while the address book itself goes on changing. The appointments of each person are copied as well,
+ * since they are changed in place.
+ *
+ * A snapshot brought up to date with {@link #withChanges(AddressBookChanges)} remembers those changes, so that
+ * a storage that has written the earlier snapshot can write only the persons that changed.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final long version;
+    private final AddressBookChanges changes;
+
+    /**
+     * Creates a snapshot of the persons in {@code addressBook}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        List<Person> copiedPersons = new ArrayList<>(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            copiedPersons.add(copyOf(person));
+        }
+        persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(copiedPersons));
+        version = addressBook.getVersion();
+        changes = null;
+    }
+
+    private AddressBookSnapshot(List<Person> persons, AddressBookChanges changes) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.version = changes.getToVersion();
+        this.changes = changes;
+    }
+
+    /**
+     * Returns a snapshot of the persons in {@code addressBook}, which is {@code addressBook} itself if it is
+     * a snapshot already.
+     */
+    static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return addressBook instanceof AddressBookSnapshot
+                ? (AddressBookSnapshot) addressBook
+                : new AddressBookSnapshot(addressBook);
+    }
+
+    /**
+     * Returns a copy of {@code person} that does not change when {@code person} does.
+     */
+    static Person copyOf(Person person) {
+        requireNonNull(person);
+        return new Person(person.getName(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getIncome(), person.getMonthly(), person.getRiskTag(),
+                person.getPlanTag(), person.getClientTag(), person.getTags(),
+                new AppointmentList(person.getAppointments()));
+    }
+
+    /**
+     * Returns a snapshot of the address book after {@code changes}, which must start at the version of this
+     * snapshot. Only the persons that changed are taken from {@code changes}; the rest are shared with this
+     * snapshot.
+     */
+    AddressBookSnapshot withChanges(AddressBookChanges changes) {
+        requireNonNull(changes);
+        assert changes.getFromVersion() == version;
+
+        // A person changed again later is left as null until its last change puts in the copy that is left
+        List<Person> changedPersons = new ArrayList<>(persons);
+        List<Name> names = new ArrayList<>(persons.size());
+        persons.forEach(person -> names.add(person.getName()));
+        for (PersonChange change : changes.getChanges()) {
+            Person changedPerson = change.getNewName().flatMap(changes::getChangedPerson).orElse(null);
+            if (change.isAddition()) {
+                changedPersons.add(changedPerson);
+                names.add(change.getNewName().get());
+                continue;
+            }
+            int index = names.indexOf(change.getOldName().get());
+            assert index != -1;
+            if (change.isRemoval()) {
+                changedPersons.remove(index);
+                names.remove(index);
+            } else {
+                changedPersons.set(index, changedPerson);
+                names.set(index, change.getNewName().get());
+            }
+        }
+        assert !changedPersons.contains(null);
+        return new AddressBookSnapshot(changedPersons, changes);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the changes this snapshot was brought up to date with, if {@code version} is where they start.
+     */
+    @Override
+    public Optional<List<PersonChange>> getChangesSince(long version) {
+        if (version == this.version) {
+            return Optional.of(Collections.emptyList());
+        }
+        if (changes != null && version == changes.getFromVersion()) {
+            return Optional.of(changes.getChanges());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Person> getPerson(Name name) {
+        if (changes != null && changes.isChanged(name)) {
+            return changes.getChangedPerson(name);
+        }
+        return ReadOnlyAddressBook.super.getPerson(name);
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -30,6 +33,22 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Reads the AddressBook data like {@link #readAddressBook()}, passing its persons to {@code loader} in order.
+     * Storages that can read the persons a few at a time pass them on as they are read, rather than once all
+     * of them are read.
+     *
+     * @return false if the storage file is not found.
+     * @throws DataConversionException if the data in storage is not in the expected format.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    default boolean readAddressBook(AddressBookLoader loader) throws DataConversionException, IOException {
+        requireNonNull(loader);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        addressBook.ifPresent(data -> loader.load(new ArrayList<>(data.getPersonList())));
+        return addressBook.isPresent();
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
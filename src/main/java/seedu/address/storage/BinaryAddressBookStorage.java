@@ -0,0 +1,457 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.appointment.DateTime;
+import seedu.address.model.appointment.Location;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Income;
+import seedu.address.model.person.Monthly;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.ClientTag;
+import seedu.address.model.tag.NormalTag;
+import seedu.address.model.tag.PlanTag;
+import seedu.address.model.tag.RiskTag;
+
+/**
+ * A class to access AddressBook data stored on the hard disk in a compact binary format, which is smaller and
+ * faster to read and write than json for large address books.
+ *
+ * The file starts with a header and a table of the strings that tend to repeat between persons, that is the
+ * tag names and appointment locations, which the persons refer to by their index in the table. It is followed
+ * by the persons, each as a record prefixed by its length in bytes. Strings are UTF-8, prefixed by their length,
+ * income and monthly are stored as numbers and appointment times as minutes since the epoch. An income or monthly
+ * too large for a number is stored as {@code LARGE_AMOUNT} followed by its digits as a string.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final String MESSAGE_NOT_BINARY_ADDRESS_BOOK = "File is not a binary address book!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary address book version %d is not supported!";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary address book is corrupted!";
+
+    /** The first bytes of every binary address book, "FAPB" in ASCII. */
+    static final int MAGIC = 0x46415042;
+    static final int FORMAT_VERSION = 1;
+
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final int SECONDS_PER_MINUTE = 60;
+    /** Stands in for an amount too large to be stored as a number, which valid amounts never are as negative. */
+    private static final long LARGE_AMOUNT = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary address book kept in place of the json address book at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the file cannot be read, its previous contents are read from its backup instead, if there is one.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if neither the file nor its backup is in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return AddressBookBackup.readWithFallback(filePath, this::readAddressBookFile);
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(FileUtil.newInputStream(filePath))) {
+            return Optional.of(read(in, Files.size(filePath)));
+        } catch (IOException | BufferUnderflowException e) {
+            logger.warning("Error reading from address book " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeAtomicallyWithBackup(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            write(addressBook.getPersonList(), dataOut);
+            dataOut.flush();
+        });
+    }
+
+    /**
+     * Copies the address book in {@code source} into this storage, such as to start keeping an address book
+     * that was kept as json in the binary format. Nothing is copied if {@code source} has no address book.
+     *
+     * @return true if an address book was copied.
+     */
+    public boolean importFrom(AddressBookStorage source) throws DataConversionException, IOException {
+        requireNonNull(source);
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isPresent()) {
+            saveAddressBook(addressBook.get());
+        }
+        return addressBook.isPresent();
+    }
+
+    /**
+     * Copies the address book in this storage into {@code target}, such as to go back to keeping the address
+     * book as json. Nothing is copied if this storage has no address book.
+     *
+     * @return true if an address book was copied.
+     */
+    public boolean exportTo(AddressBookStorage target) throws DataConversionException, IOException {
+        requireNonNull(target);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (addressBook.isPresent()) {
+            target.saveAddressBook(addressBook.get());
+        }
+        return addressBook.isPresent();
+    }
+
+    private static void write(List<Person> persons, DataOutputStream out) throws IOException {
+        Map<String, Integer> stringTable = toStringTable(persons);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(stringTable.size());
+        for (String string : stringTable.keySet()) {
+            writeString(out, string);
+        }
+
+        out.writeInt(persons.size());
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        for (Person person : persons) {
+            record.reset();
+            writePerson(recordOut, person, stringTable);
+            out.writeInt(record.size());
+            record.writeTo(out);
+        }
+    }
+
+    /**
+     * Returns the index of each tag name and appointment location used by {@code persons}.
+     */
+    private static Map<String, Integer> toStringTable(List<Person> persons) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        for (Person person : persons) {
+            stringTable.putIfAbsent(person.getRiskTag().tagName, stringTable.size());
+            stringTable.putIfAbsent(person.getPlanTag().tagName, stringTable.size());
+            stringTable.putIfAbsent(person.getClientTag().tagName, stringTable.size());
+            for (NormalTag tag : person.getTags()) {
+                stringTable.putIfAbsent(tag.tagName, stringTable.size());
+            }
+            for (Appointment appointment : person.getAppointments().getObservableList()) {
+                stringTable.putIfAbsent(appointment.getLocation().value, stringTable.size());
+            }
+        }
+        return stringTable;
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> stringTable)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeAmount(out, person.getIncome().convertIncomeToLong(), person.getIncome().value);
+        writeAmount(out, person.getMonthly().convertMonthlyToLong(), person.getMonthly().value);
+        out.writeInt(stringTable.get(person.getRiskTag().tagName));
+        out.writeInt(stringTable.get(person.getPlanTag().tagName));
+        out.writeInt(stringTable.get(person.getClientTag().tagName));
+
+        Set<NormalTag> tags = person.getTags();
+        out.writeInt(tags.size());
+        for (NormalTag tag : tags) {
+            out.writeInt(stringTable.get(tag.tagName));
+        }
+
+        List<Appointment> appointments = person.getAppointments().getObservableList();
+        out.writeInt(appointments.size());
+        for (Appointment appointment : appointments) {
+            LocalDateTime dateTime = appointment.getDateTime().getLocalDateTime();
+            out.writeLong(Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_MINUTE));
+            out.writeInt(stringTable.get(appointment.getLocation().value));
+        }
+    }
+
+    /**
+     * Writes the amount of an income or monthly, whose value is {@code value}, as a number if it fits in one.
+     */
+    private static void writeAmount(DataOutputStream out, long amount, String value) throws IOException {
+        if (amount == Long.MAX_VALUE) {
+            // the amount may have been clamped, so the digits after the $ are kept instead
+            out.writeLong(LARGE_AMOUNT);
+            writeString(out, value.substring(1));
+            return;
+        }
+        out.writeLong(amount);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the address book from {@code in}, which holds {@code fileSize} bytes.
+     */
+    private static AddressBook read(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_ADDRESS_BOOK);
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        String[] strings = new String[readLength(in, fileSize)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[readLength(in, fileSize)];
+            in.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        StringTable stringTable = new StringTable(strings);
+
+        int personCount = readLength(in, fileSize);
+        List<Person> persons = new ArrayList<>(personCount);
+        Set<Name> names = new HashSet<>();
+        byte[] record = new byte[0];
+        for (int i = 0; i < personCount; i++) {
+            int length = readLength(in, fileSize);
+            if (record.length < length) {
+                record = new byte[length];
+            }
+            in.readFully(record, 0, length);
+            Person person = readPerson(ByteBuffer.wrap(record, 0, length), stringTable);
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            persons.add(person);
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Reads a count or a length in bytes, which cannot be negative or more than the size of the file.
+     */
+    private static int readLength(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0 || length > fileSize) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return length;
+    }
+
+    private static Person readPerson(ByteBuffer record, StringTable stringTable) throws IllegalValueException {
+        String name = getString(record);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String phone = getString(record);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        String email = getString(record);
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        String address = getString(record);
+        if (!Address.isValidAddress(address)) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        String income = getAmount(record);
+        if (!Income.isValidIncome(income)) {
+            throw new IllegalValueException(Income.MESSAGE_CONSTRAINTS);
+        }
+        String monthly = getAmount(record);
+        if (!Monthly.isValidMonthly(monthly)) {
+            throw new IllegalValueException(Monthly.MESSAGE_CONSTRAINTS);
+        }
+        String riskTag = stringTable.get(record.getInt());
+        if (!RiskTag.isValidRiskTagName(riskTag)) {
+            throw new IllegalValueException(RiskTag.MESSAGE_CONSTRAINTS);
+        }
+        PlanTag planTag = stringTable.getPlanTag(record.getInt());
+        String clientTag = stringTable.get(record.getInt());
+        if (!ClientTag.isValidClientTagName(clientTag)) {
+            throw new IllegalValueException(ClientTag.MESSAGE_CONSTRAINTS);
+        }
+
+        int tagCount = record.getInt();
+        Set<NormalTag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(stringTable.getTag(record.getInt()));
+        }
+
+        int appointmentCount = record.getInt();
+        AppointmentList appointments = new AppointmentList();
+        for (int i = 0; i < appointmentCount; i++) {
+            DateTime dateTime = toDateTime(record.getLong());
+            appointments.add(new Appointment(dateTime, stringTable.getLocation(record.getInt())));
+        }
+
+        return new Person(new Name(name), new Phone(phone), new Email(email), new Address(address),
+                new Income(income), new Monthly(monthly), RiskTag.of(riskTag), planTag, ClientTag.of(clientTag),
+                tags, appointments);
+    }
+
+    private static DateTime toDateTime(long epochMinute) throws IllegalValueException {
+        try {
+            long epochSecond = Math.multiplyExact(epochMinute, SECONDS_PER_MINUTE);
+            return new DateTime(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+        } catch (ArithmeticException | DateTimeException e) {
+            throw new IllegalValueException(DateTime.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static String getAmount(ByteBuffer record) {
+        long amount = record.getLong();
+        return amount == LARGE_AMOUNT ? getString(record) : Long.toString(amount);
+    }
+
+    private static String getString(ByteBuffer record) {
+        int length = record.getInt();
+        if (length < 0 || length > record.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String string = new String(record.array(), record.arrayOffset() + record.position(), length,
+                StandardCharsets.UTF_8);
+        record.position(record.position() + length);
+        return string;
+    }
+
+    /**
+     * The strings shared between the persons in a file. The tags and locations made from each string are kept,
+     * so that they are checked and created once however many persons share them.
+     */
+    private static class StringTable {
+        private final String[] strings;
+        private final NormalTag[] tags;
+        private final PlanTag[] planTags;
+        private final Location[] locations;
+
+        private StringTable(String[] strings) {
+            this.strings = strings;
+            tags = new NormalTag[strings.length];
+            planTags = new PlanTag[strings.length];
+            locations = new Location[strings.length];
+        }
+
+        private String get(int index) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return strings[index];
+        }
+
+        private NormalTag getTag(int index) throws IllegalValueException {
+            String tagName = get(index);
+            if (tags[index] == null) {
+                if (!NormalTag.isValidNormalTagName(tagName)) {
+                    throw new IllegalValueException(NormalTag.MESSAGE_CONSTRAINTS);
+                }
+                tags[index] = new NormalTag(tagName);
+            }
+            return tags[index];
+        }
+
+        private PlanTag getPlanTag(int index) throws IllegalValueException {
+            String tagName = get(index);
+            if (planTags[index] == null) {
+                if (!PlanTag.isValidPlanTagName(tagName)) {
+                    throw new IllegalValueException(PlanTag.MESSAGE_CONSTRAINTS);
+                }
+                planTags[index] = new PlanTag(tagName);
+            }
+            return planTags[index];
+        }
+
+        private Location getLocation(int index) throws IllegalValueException {
+            String location = get(index);
+            if (locations[index] == null) {
+                if (!Location.isValidLocation(location)) {
+                    throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
+                }
+                locations[index] = new Location(location);
+            }
+            return locations[index];
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChange;
+
+/**
+ * A class to access AddressBook data stored on the hard disk as a json snapshot, in the same format as
+ * {@link JsonAddressBookStorage}, and a journal of the persons added, edited and removed since the snapshot
+ * was written. A save appends only the persons that changed to the journal, so it costs as much as the change
+ * rather than the whole address book. Once the journal holds as many records as there are persons, or the
+ * persons are reordered or renamed, the address book is compacted into a new snapshot and the journal is
+ * started over.
+ *
+ * The persons that changed are asked of the address book, by the version it was at when last saved. Only an
+ * address book that does not know its changes since then, such as one saved for the first time since it was
+ * read, is compared with the persons written person by person.
+ *
+ * The journal names the checksum of the snapshot it applies to, so a journal left over from an older snapshot,
+ * such as when compaction is interrupted, is ignored.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    /** The fewest records the journal holds before it is compacted, however few persons there are. */
+    private static final int MIN_RECORDS_BEFORE_COMPACTION = 64;
+
+    /** Returned by {@link #replayJournal} when the journal cannot be appended to. */
+    private static final int UNUSABLE_JOURNAL = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+
+    // The persons written to filePath so far, by name in the order they are read back in,
+    // or null if the data in the file is not known yet.
+    private Map<Name, Person> persistedPersons;
+    private long persistedVersion;
+    private int journalRecordCount;
+    private boolean isJournalUsable;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        requireNonNull(snapshotPath);
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * If the snapshot and journal cannot be read, the previous snapshot is read from its backup instead, if there
+     * is one, together with the journal kept alongside it.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if neither the snapshot and journal nor the backup is in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+        return AddressBookBackup.readWithFallback(filePath, this::readAddressBookFile, this::readBackupFile);
+    }
+
+    /**
+     * Reads the backup at {@code backupPath} of a snapshot that cannot be read. The backup and its journal hold
+     * the address book as it was before the snapshot was written, so the changes saved since then are lost.
+     */
+    private Optional<ReadOnlyAddressBook> readBackupFile(Path backupPath) throws DataConversionException {
+        logger.warning("The changes saved since " + backupPath + " was replaced cannot be recovered, as the snapshot"
+                + " they were saved with cannot be read. Only the address book as it was before is read.");
+        return readAddressBookFile(backupPath);
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Snapshot file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (CheckedInputStream in = new CheckedInputStream(FileUtil.newInputStream(filePath), new CRC32())) {
+            AddressBook addressBook = JsonSerializableAddressBook.read(in);
+            // the checksum covers the whole snapshot, including anything after the json
+            in.transferTo(OutputStream.nullOutputStream());
+            long checksum = in.getChecksum().getValue();
+            int replayedRecordCount = replayJournal(getJournalFilePath(filePath), checksum, addressBook);
+            if (filePath.equals(this.filePath)) {
+                persistedPersons = toPersonsByName(addressBook);
+                persistedVersion = addressBook.getVersion();
+                isJournalUsable = replayedRecordCount != UNUSABLE_JOURNAL;
+                journalRecordCount = Math.max(0, replayedRecordCount);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from address book " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only saves to the file this storage was created with are journalled.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        if (persistedPersons == null || !isJournalUsable) {
+            compact(addressBook);
+            return;
+        }
+        Optional<List<PersonChange>> changes = addressBook.getChangesSince(persistedVersion);
+        Optional<List<PersonUpdate>> updates = changes.isPresent()
+                ? toUpdates(addressBook, changes.get())
+                : toUpdatesByComparison(addressBook);
+        if (updates.isEmpty() || journalRecordCount + updates.get().size()
+                > Math.max(MIN_RECORDS_BEFORE_COMPACTION, persistedPersons.size())) {
+            compact(addressBook);
+            return;
+        }
+
+        if (!updates.get().isEmpty()) {
+            List<JsonAdaptedJournalRecord> records = new ArrayList<>(updates.get().size());
+            for (PersonUpdate update : updates.get()) {
+                records.add(update.person == null
+                        ? JsonAdaptedJournalRecord.remove(update.name)
+                        : JsonAdaptedJournalRecord.put(update.person));
+            }
+            writeJournal(records, StandardOpenOption.APPEND);
+            journalRecordCount += records.size();
+        }
+        for (PersonUpdate update : updates.get()) {
+            if (update.person == null) {
+                persistedPersons.remove(update.name);
+            } else {
+                persistedPersons.put(update.name, update.person);
+            }
+        }
+        persistedVersion = addressBook.getVersion();
+    }
+
+    /**
+     * Returns the journal records to append for {@code changes}, the changes made to {@code addressBook} since
+     * it was last saved, or an empty {@code Optional} if a person was renamed, as the journal would put the
+     * person in a different place.
+     */
+    private static Optional<List<PersonUpdate>> toUpdates(ReadOnlyAddressBook addressBook,
+            List<PersonChange> changes) {
+        List<PersonUpdate> updates = new ArrayList<>();
+        Set<Name> putNames = new HashSet<>();
+        for (PersonChange change : changes) {
+            if (change.isRename()) {
+                return Optional.empty();
+            }
+            if (change.isRemoval()) {
+                Name name = change.getOldName().get();
+                updates.add(new PersonUpdate(name, null));
+                putNames.remove(name);
+                continue;
+            }
+            // a person changed more than once is put once, as it is now; one removed since is not put at all
+            Name name = change.getNewName().get();
+            Optional<Person> person = addressBook.getPerson(name);
+            if (person.isPresent() && putNames.add(name)) {
+                updates.add(new PersonUpdate(name, AddressBookSnapshot.copyOf(person.get())));
+            }
+        }
+        return Optional.of(updates);
+    }
+
+    /**
+     * Returns the journal records to append to bring the persons written up to {@code addressBook}, found by
+     * comparing every person, or an empty {@code Optional} if replaying them would not put the persons in their
+     * current order.
+     */
+    private Optional<List<PersonUpdate>> toUpdatesByComparison(ReadOnlyAddressBook addressBook) {
+        Map<Name, Person> persons = toPersonsByName(addressBook);
+        if (!isReplayedInOrder(persons)) {
+            return Optional.empty();
+        }
+
+        List<PersonUpdate> updates = new ArrayList<>();
+        for (Person person : persons.values()) {
+            if (!person.equals(persistedPersons.get(person.getName()))) {
+                updates.add(new PersonUpdate(person.getName(), person));
+            }
+        }
+        for (Name name : persistedPersons.keySet()) {
+            if (!persons.containsKey(name)) {
+                updates.add(new PersonUpdate(name, null));
+            }
+        }
+        return Optional.of(updates);
+    }
+
+    /**
+     * Returns true if replaying the journal would put {@code persons} in their current order. Edited persons
+     * keep their place and added persons are appended, so this only fails once the persons are reordered,
+     * or a person is renamed.
+     */
+    private boolean isReplayedInOrder(Map<Name, Person> persons) {
+        List<Name> replayedOrder = new ArrayList<>(persons.size());
+        for (Name name : persistedPersons.keySet()) {
+            if (persons.containsKey(name)) {
+                replayedOrder.add(name);
+            }
+        }
+        for (Name name : persons.keySet()) {
+            if (!persistedPersons.containsKey(name)) {
+                replayedOrder.add(name);
+            }
+        }
+        return replayedOrder.equals(new ArrayList<>(persons.keySet()));
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and starts a new, empty journal for it.
+     * The previous journal is kept alongside the backup of the previous snapshot, which it applies to.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        long checksum = writeSnapshot(snapshot, filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        Path backupJournalPath = getJournalFilePath(FileUtil.getBackupPath(filePath));
+        if (Files.exists(journalPath)) {
+            Files.move(journalPath, backupJournalPath, StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.deleteIfExists(backupJournalPath);
+        }
+        writeJournal(List.of(JsonAdaptedJournalRecord.snapshot(checksum)), StandardOpenOption.TRUNCATE_EXISTING);
+        persistedPersons = toPersonsByName(snapshot);
+        persistedVersion = snapshot.getVersion();
+        journalRecordCount = 0;
+        isJournalUsable = true;
+    }
+
+    /**
+     * Copies the address book in this storage, with its journal applied, into {@code target}, such as to go back
+     * to keeping the address book as plain json. If {@code target} keeps the address book in the same file,
+     * the journal is deleted, as it no longer applies. Nothing is copied if this storage has no address book.
+     *
+     * @return true if an address book was copied.
+     */
+    public boolean exportTo(AddressBookStorage target) throws DataConversionException, IOException {
+        requireNonNull(target);
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook();
+        if (addressBook.isPresent()) {
+            target.saveAddressBook(addressBook.get());
+        }
+        if (target.getAddressBookFilePath().equals(filePath)) {
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            Files.deleteIfExists(getJournalFilePath(FileUtil.getBackupPath(filePath)));
+            persistedPersons = null;
+        }
+        return addressBook.isPresent();
+    }
+
+    /**
+     * Writes {@code addressBook} as a snapshot to {@code filePath}, and returns the checksum of the snapshot.
+     */
+    private long writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        CRC32 checksum = new CRC32();
+        FileUtil.writeAtomicallyWithBackup(filePath,
+                out -> JsonSerializableAddressBook.write(addressBook, new CheckedOutputStream(out, checksum)));
+        return checksum.getValue();
+    }
+
+    /**
+     * Writes {@code records} to the journal, one on each line, and forces them to the disk.
+     */
+    private void writeJournal(List<JsonAdaptedJournalRecord> records, StandardOpenOption mode) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel journal = FileChannel.open(getJournalFilePath(filePath), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, mode)) {
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code addressBook}, if the journal applies
+     * to the snapshot with the given checksum. A last record that was cut short by a crash is left out.
+     *
+     * @return the number of records applied, or {@code UNUSABLE_JOURNAL} if the journal cannot be appended to,
+     *     that is, it does not apply to the snapshot or is incomplete.
+     */
+    private static int replayJournal(Path journalPath, long snapshotChecksum, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return UNUSABLE_JOURNAL;
+        }
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !parseRecord(lines.get(0)).map(record -> record.isSnapshotOf(snapshotChecksum))
+                .orElse(false)) {
+            logger.info("Ignoring journal " + journalPath + " as it does not apply to its snapshot");
+            return UNUSABLE_JOURNAL;
+        }
+
+        Map<Name, Person> persons = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> persons.put(person.getName(), person));
+        int recordCount = 0;
+        boolean isComplete = true;
+        for (int i = 1; i < lines.size(); i++) {
+            Optional<JsonAdaptedJournalRecord> record = parseRecord(lines.get(i));
+            if (record.isEmpty()) {
+                if (i < lines.size() - 1) {
+                    throw new IllegalValueException("Journal record " + i + " is not valid json");
+                }
+                logger.warning("Ignoring the incomplete last record of journal " + journalPath);
+                isComplete = false;
+                break;
+            }
+            if (record.get().isPut()) {
+                Person person = record.get().toModelPerson();
+                persons.put(person.getName(), person);
+            } else {
+                persons.remove(record.get().toModelName());
+            }
+            recordCount++;
+        }
+        if (lines.size() > 1) {
+            addressBook.setPersons(new ArrayList<>(persons.values()));
+        }
+        return isComplete ? recordCount : UNUSABLE_JOURNAL;
+    }
+
+    private static Optional<JsonAdaptedJournalRecord> parseRecord(String line) {
+        try {
+            return Optional.of(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * A journal record to append: the person named {@code name} put as {@code person}, or removed if it is null.
+     */
+    private static class PersonUpdate {
+        private final Name name;
+        private final Person person;
+
+        PersonUpdate(Name name, Person person) {
+            this.name = name;
+            this.person = person;
+        }
+    }
+
+    /**
+     * Returns copies of the persons in {@code addressBook} by name, in order.
+     */
+    private static Map<Name, Person> toPersonsByName(ReadOnlyAddressBook addressBook) {
+        Map<Name, Person> persons = new LinkedHashMap<>();
+        for (Person person : AddressBookSnapshot.of(addressBook).getPersonList()) {
+            persons.put(person.getName(), person);
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a record in the journal of a {@link JournalAddressBookStorage}.
+ * The journal starts with a snapshot record, naming the checksum of the snapshot it applies to, which is
+ * followed by a put record for each person added or edited and a remove record for each person removed.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String PUT = "put";
+    public static final String REMOVE = "remove";
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is not a snapshot, put or remove record!";
+
+    private final String type;
+    private final Long checksum;
+    private final JsonAdaptedPerson person;
+    private final String name;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") String type, @JsonProperty("checksum") Long checksum,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("name") String name) {
+        this.type = type;
+        this.checksum = checksum;
+        this.person = person;
+        this.name = name;
+    }
+
+    /**
+     * Returns a record that starts a journal of the changes to the snapshot with the given checksum.
+     */
+    public static JsonAdaptedJournalRecord snapshot(long checksum) {
+        return new JsonAdaptedJournalRecord(SNAPSHOT, checksum, null, null);
+    }
+
+    /**
+     * Returns a record of {@code person} being added, or replacing the person with the same name.
+     */
+    public static JsonAdaptedJournalRecord put(Person person) {
+        return new JsonAdaptedJournalRecord(PUT, null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record of the person named {@code name} being removed.
+     */
+    public static JsonAdaptedJournalRecord remove(Name name) {
+        return new JsonAdaptedJournalRecord(REMOVE, null, null, name.fullName);
+    }
+
+    /**
+     * Returns true if this record starts a journal of the changes to the snapshot with the given checksum.
+     */
+    public boolean isSnapshotOf(long snapshotChecksum) {
+        return SNAPSHOT.equals(type) && checksum != null && checksum == snapshotChecksum;
+    }
+
+    public boolean isPut() {
+        return PUT.equals(type);
+    }
+
+    /**
+     * Converts the person put by this record into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if this is not a put record, or the person violates data constraints.
+     */
+    public Person toModelPerson() throws IllegalValueException {
+        if (!isPut() || person == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Converts the name removed by this record into the model's {@code Name} object.
+     *
+     * @throws IllegalValueException if this is not a remove record, or the name violates data constraints.
+     */
+    public Name toModelName() throws IllegalValueException {
+        if (!REMOVE.equals(type) || name == null) {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+}
@@ -1,6 +1,5 @@
 package seedu.address.storage;
 
-import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
 
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -13,6 +12,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Income;
@@ -107,7 +107,7 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
-        final MaximumSortedList<Appointment> modelAppointments = new MaximumSortedList<>(MAXIMUM_NUM_OF_APPOINTMENTS);
+        final MaximumSortedList<Appointment> modelAppointments = new AppointmentList();
 
         for (JsonAdaptedAppointment jsonAdaptedAppointment : appointments) {
             modelAppointments.add(jsonAdaptedAppointment.toModelType());
@@ -169,7 +169,7 @@ class JsonAdaptedPerson {
         if (!RiskTag.isValidRiskTagName(riskTag)) {
             throw new IllegalValueException(RiskTag.MESSAGE_CONSTRAINTS);
         }
-        final RiskTag modelRiskTag = new RiskTag(riskTag);
+        final RiskTag modelRiskTag = RiskTag.of(riskTag);
 
         if (planTag == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, PlanTag.class.getSimpleName()));
@@ -186,7 +186,7 @@ class JsonAdaptedPerson {
         if (!ClientTag.isValidClientTagName(clientTag)) {
             throw new IllegalValueException(ClientTag.MESSAGE_CONSTRAINTS);
         }
-        final ClientTag modelClientTag = new ClientTag(clientTag);
+        final ClientTag modelClientTag = ClientTag.of(clientTag);
 
         final Set<NormalTag> modelTags = new HashSet<>(personTags);
         Person newPerson = new Person(modelName, modelPhone, modelEmail,
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Builds the model's {@code AddressBook} from the {@code JsonAdaptedPerson}s read from a file.
+ * The persons are validated and converted in batches, each spread over the common fork-join pool, and the
+ * address book is built from all of them in one bulk update rather than one person at a time.
+ * Alternatively, each batch is passed on as soon as it is converted, without building an address book.
+ */
+class JsonAdaptedPersonLoader {
+
+    /** The number of persons held in their json form at once, waiting to be converted. */
+    static final int BATCH_SIZE = 1024;
+
+    private final List<JsonAdaptedPerson> batch = new ArrayList<>(BATCH_SIZE);
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<Name> names = new HashSet<>();
+    private final Consumer<List<Person>> consumer;
+
+    /**
+     * Creates a loader that keeps the persons converted, for {@link #toAddressBook()}.
+     */
+    JsonAdaptedPersonLoader() {
+        consumer = persons::addAll;
+    }
+
+    /**
+     * Creates a loader that passes each batch of persons to {@code consumer} as soon as it is converted.
+     */
+    JsonAdaptedPersonLoader(Consumer<List<Person>> consumer) {
+        requireNonNull(consumer);
+        this.consumer = consumer;
+    }
+
+    /**
+     * Adds {@code jsonAdaptedPerson} to the persons to be loaded, after those added before it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the batch converted.
+     */
+    public void add(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        requireNonNull(jsonAdaptedPerson);
+        batch.add(jsonAdaptedPerson);
+        if (batch.size() >= BATCH_SIZE) {
+            convertBatch();
+        }
+    }
+
+    /**
+     * Returns an address book of all the persons added, in the order they were added.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toAddressBook() throws IllegalValueException {
+        finish();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    /**
+     * Converts the persons added since the last batch was converted, and passes them on.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void finish() throws IllegalValueException {
+        convertBatch();
+    }
+
+    private void convertBatch() throws IllegalValueException {
+        List<Person> convertedPersons;
+        try {
+            convertedPersons = batch.parallelStream()
+                    .map(JsonAdaptedPersonLoader::toModelType)
+                    .collect(Collectors.toList());
+        } catch (InvalidPersonException ipe) {
+            throw ipe.illegalValueException;
+        }
+        batch.clear();
+
+        for (Person person : convertedPersons) {
+            if (!names.add(person.getName())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+        }
+        if (!convertedPersons.isEmpty()) {
+            consumer.accept(convertedPersons);
+        }
+    }
+
+    private static Person toModelType(JsonAdaptedPerson jsonAdaptedPerson) {
+        try {
+            return jsonAdaptedPerson.toModelType();
+        } catch (IllegalValueException ive) {
+            throw new InvalidPersonException(ive);
+        }
+    }
+
+    /**
+     * Carries the {@code IllegalValueException} of a person out of the stream converting it.
+     */
+    private static class InvalidPersonException extends RuntimeException {
+        private final IllegalValueException illegalValueException;
+
+        private InvalidPersonException(IllegalValueException illegalValueException) {
+            super(illegalValueException);
+            this.illegalValueException = illegalValueException;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,11 +13,11 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one person at a time, so the whole file is never held in memory.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
@@ -38,21 +40,59 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the file cannot be read, its previous contents are read from its backup instead, if there is one.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if neither the file nor its backup is in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
+        return AddressBookBackup.readWithFallback(filePath, this::readAddressBookFile);
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.read(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but passes the persons to {@code loader} a batch at a time,
+     * as soon as they are read and converted. If the file turns out not to be readable partway, {@code loader}
+     * is told to discard the persons passed so far before those in the backup of the file are passed.
+     */
+    @Override
+    public boolean readAddressBook(AddressBookLoader loader) throws DataConversionException {
+        requireNonNull(loader);
+        return AddressBookBackup.readWithFallback(filePath, path -> loadAddressBookFile(path, loader), path -> {
+            loader.discard();
+            return loadAddressBookFile(path, loader);
+        });
+    }
+
+    private boolean loadAddressBookFile(Path filePath, AddressBookLoader loader) throws DataConversionException {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (InputStream in = FileUtil.newInputStream(filePath)) {
+            JsonSerializableAddressBook.read(in, loader::load);
+            return true;
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +113,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeAtomicallyWithBackup(filePath, out -> JsonSerializableAddressBook.write(addressBook, out));
     }
 
 }
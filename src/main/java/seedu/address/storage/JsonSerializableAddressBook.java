@@ -1,7 +1,11 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -9,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -21,6 +26,8 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -46,15 +53,47 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            loader.add(jsonAdaptedPerson);
         }
-        return addressBook;
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Writes {@code source} to {@code out} in the JSON format of this class, converting one person at a time
+     * so that the persons are never all held in their JSON form at once.
+     */
+    public static void write(ReadOnlyAddressBook source, OutputStream out) throws IOException {
+        JsonUtil.writeJsonArray(out, PERSONS_FIELD, source.getPersonList(), JsonAdaptedPerson::new);
+    }
+
+    /**
+     * Reads an address book in the JSON format of this class from {@code in} into the model's
+     * {@code AddressBook} object, converting the persons in batches as they are read.
+     *
+     * @throws IOException if {@code in} cannot be read or is not in the JSON format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook read(InputStream in) throws IOException, IllegalValueException {
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader();
+        JsonUtil.readJsonArray(in, PERSONS_FIELD, JsonAdaptedPerson.class, loader::add);
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Reads the persons of an address book in the JSON format of this class from {@code in}, passing each batch
+     * of them to {@code consumer} as soon as it is converted, instead of building an address book of them all.
+     *
+     * @throws IOException if {@code in} cannot be read or is not in the JSON format of this class.
+     * @throws IllegalValueException if there were any data constraints violated, which may only be found after
+     *     some of the persons have been passed to {@code consumer}.
+     */
+    public static void read(InputStream in, Consumer<List<Person>> consumer) throws IOException,
+            IllegalValueException {
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(consumer);
+        JsonUtil.readJsonArray(in, PERSONS_FIELD, JsonAdaptedPerson.class, loader::add);
+        loader.finish();
     }
 
 }
@@ -38,4 +38,11 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, CommandHi
     void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException;
 
     void saveCommandHistory(ReadOnlyCommandHistory commandHistory, Path filePath) throws IOException;
+
+    /**
+     * Waits until every save made so far has been written.
+     *
+     * @throws IOException if any of them could not be written.
+     */
+    void flush() throws IOException;
 }
@@ -69,6 +69,12 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public boolean readAddressBook(AddressBookLoader loader) throws DataConversionException, IOException {
+        logger.fine("Attempting to read data from file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.readAddressBook(loader);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -106,4 +112,11 @@ public class StorageManager implements Storage {
     public void saveCommandHistory(ReadOnlyCommandHistory commandHistory, Path filePath) throws IOException {
         commandHistoryStorage.saveCommandHistory(commandHistory);
     }
+
+    /**
+     * Does nothing, as every save is written before it returns.
+     */
+    @Override
+    public void flush() {
+    }
 }
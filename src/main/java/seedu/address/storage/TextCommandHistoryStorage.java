@@ -4,8 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +14,7 @@ import java.util.Scanner;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.CommandHistory;
 import seedu.address.model.ReadOnlyCommandHistory;
 
@@ -74,7 +76,8 @@ public class TextCommandHistoryStorage implements CommandHistoryStorage {
             commandHistoryList.add(commandString);
         }
         sc.close();
-        CommandHistory commandHistory = new CommandHistory();
+        // the history is trimmed to the maximum size in the user prefs once it is in the model
+        CommandHistory commandHistory = new CommandHistory(CommandHistory.getMaxSizeToKeep(commandHistoryList));
         commandHistory.setCommandHistoryList(commandHistoryList);
         return commandHistory;
     }
@@ -95,11 +98,13 @@ public class TextCommandHistoryStorage implements CommandHistoryStorage {
         requireNonNull(commandHistory);
         requireNonNull(filePath);
         List<String> commandHistoryList = commandHistory.getCommandHistoryList();
-        FileWriter fw = new FileWriter(filePath.toString());
-        for (int i = 0; i < commandHistoryList.size(); i++) {
-            fw.write(commandHistoryList.get(i) + "\n");
-        }
-        fw.close();
+        FileUtil.writeAtomically(filePath, out -> {
+            Writer writer = new OutputStreamWriter(out);
+            for (int i = 0; i < commandHistoryList.size(); i++) {
+                writer.write(commandHistoryList.get(i) + "\n");
+            }
+            writer.flush();
+        });
     }
 
 }
@@ -0,0 +1,332 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+
+/**
+ * A {@code Storage} that writes the address book and the command history behind the caller, on a background
+ * thread, instead of making the caller wait for the disk.
+ *
+ * A save takes a snapshot of the data and returns. Saves of data that is unchanged since the last save are
+ * skipped, and saves made while an earlier one is still being written are coalesced, so that only the latest
+ * data is written. A save that fails to be written is reported by the next save, or by {@link #flush()}.
+ *
+ * Whether an address book that was saved before is unchanged is told by its version alone. When it has changed,
+ * only the persons that changed since the last save are copied, if the address book still knows its changes,
+ * and the writer applies them to its own copy of the address book as written last.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The last data handed to the writer. Only used by the thread making saves.
+    private ReadOnlyAddressBook lastAddressBook;
+    private long lastAddressBookVersion;
+    private List<String> lastCommandHistory;
+
+    // The address book as written last, or as it failed to be written. Only used by the writer.
+    private AddressBookSnapshot writtenAddressBook;
+
+    // Guarded by this. A failed write is reported once, but the data is written again by the next save.
+    // The changes pending are applied to the address book pending, or to the one written last if none is.
+    private AddressBookSnapshot pendingAddressBook;
+    private AddressBookChanges pendingAddressBookChanges;
+    private CommandHistory pendingCommandHistory;
+    private boolean isWriteScheduled;
+    private IOException addressBookWriteFailure;
+    private IOException commandHistoryWriteFailure;
+    private boolean isAddressBookRewriteNeeded;
+    private boolean isCommandHistoryRewriteNeeded;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public boolean readAddressBook(AddressBookLoader loader) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(loader);
+    }
+
+    /**
+     * Queues {@code addressBook} to be written, unless it is unchanged since the last save.
+     * Only the persons changed since the last save are copied, if {@code addressBook} knows which they are.
+     *
+     * @throws IOException if the previous address book could not be written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        synchronized (this) {
+            if (isAddressBookRewriteNeeded) {
+                isAddressBookRewriteNeeded = false;
+                lastAddressBook = null;
+            }
+        }
+        if (addressBook == lastAddressBook && addressBook.getVersion() == lastAddressBookVersion) {
+            rethrowAddressBookWriteFailure();
+            return;
+        }
+
+        Optional<AddressBookChanges> changes = addressBook == lastAddressBook
+                ? AddressBookChanges.of(addressBook, lastAddressBookVersion)
+                : Optional.empty();
+        AddressBookSnapshot snapshot = changes.isPresent() ? null : new AddressBookSnapshot(addressBook);
+        lastAddressBook = addressBook;
+        lastAddressBookVersion = addressBook.getVersion();
+        synchronized (this) {
+            if (snapshot != null) {
+                pendingAddressBook = snapshot;
+                pendingAddressBookChanges = null;
+            } else if (pendingAddressBookChanges != null) {
+                pendingAddressBookChanges = pendingAddressBookChanges.followedBy(changes.get());
+            } else {
+                pendingAddressBookChanges = changes.get();
+            }
+            scheduleWrite();
+        }
+        rethrowAddressBookWriteFailure();
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} once the saves queued so far have been written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ CommandHistory methods ==============================
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return storage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public ReadOnlyCommandHistory readCommandHistory() throws FileNotFoundException {
+        awaitWrites();
+        return storage.readCommandHistory();
+    }
+
+    @Override
+    public ReadOnlyCommandHistory readCommandHistory(Path filePath) throws FileNotFoundException {
+        awaitWrites();
+        return storage.readCommandHistory(filePath);
+    }
+
+    /**
+     * Queues {@code commandHistory} to be written, unless it is unchanged since the last save.
+     *
+     * @throws IOException if the previous command history could not be written.
+     */
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException {
+        requireNonNull(commandHistory);
+        synchronized (this) {
+            if (isCommandHistoryRewriteNeeded) {
+                isCommandHistoryRewriteNeeded = false;
+                lastCommandHistory = null;
+            }
+        }
+        if (!commandHistory.getCommandHistoryList().equals(lastCommandHistory)) {
+            CommandHistory snapshot = new CommandHistory(commandHistory);
+            lastCommandHistory = new ArrayList<>(commandHistory.getCommandHistoryList());
+            synchronized (this) {
+                pendingCommandHistory = snapshot;
+                scheduleWrite();
+            }
+        }
+        rethrowCommandHistoryWriteFailure();
+    }
+
+    /**
+     * Writes {@code commandHistory} to {@code filePath} once the saves queued so far have been written.
+     */
+    @Override
+    public void saveCommandHistory(ReadOnlyCommandHistory commandHistory, Path filePath) throws IOException {
+        flush();
+        storage.saveCommandHistory(commandHistory, filePath);
+    }
+
+    /**
+     * Waits until every save made so far has been written.
+     *
+     * @throws IOException if any of them could not be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be written");
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+        rethrowAddressBookWriteFailure();
+        rethrowCommandHistoryWriteFailure();
+    }
+
+    /**
+     * Waits until every save made so far has been written, logging instead of throwing any failure.
+     */
+    private void awaitWrites() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Failed to write data before reading it " + StringUtil.getDetails(e));
+        }
+    }
+
+    private synchronized void scheduleWrite() {
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Writes the latest address book and command history that were saved, if they have not been written yet.
+     */
+    private void writePending() {
+        AddressBookSnapshot addressBook;
+        AddressBookChanges addressBookChanges;
+        CommandHistory commandHistory;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            addressBookChanges = pendingAddressBookChanges;
+            commandHistory = pendingCommandHistory;
+            pendingAddressBook = null;
+            pendingAddressBookChanges = null;
+            pendingCommandHistory = null;
+            isWriteScheduled = false;
+        }
+
+        if (addressBookChanges != null) {
+            // changes are only queued for an address book queued in full before
+            addressBook = (addressBook != null ? addressBook : writtenAddressBook).withChanges(addressBookChanges);
+        }
+        if (addressBook != null) {
+            writtenAddressBook = addressBook;
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException e) {
+                logger.warning("Failed to write address book " + StringUtil.getDetails(e));
+                synchronized (this) {
+                    addressBookWriteFailure = e;
+                    isAddressBookRewriteNeeded = true;
+                }
+            }
+        }
+        if (commandHistory != null) {
+            try {
+                storage.saveCommandHistory(commandHistory);
+            } catch (IOException e) {
+                logger.warning("Failed to write command history " + StringUtil.getDetails(e));
+                synchronized (this) {
+                    commandHistoryWriteFailure = e;
+                    isCommandHistoryRewriteNeeded = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Throws the failure of an earlier address book write, if any, unless it has been thrown already.
+     * It may be called from any thread, such as one waiting in {@link #flush()}.
+     */
+    private void rethrowAddressBookWriteFailure() throws IOException {
+        IOException failure;
+        synchronized (this) {
+            failure = addressBookWriteFailure;
+            addressBookWriteFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Throws the failure of an earlier command history write, if any, unless it has been thrown already.
+     * It may be called from any thread, such as one waiting in {@link #flush()}.
+     */
+    private void rethrowCommandHistoryWriteFailure() throws IOException {
+        IOException failure;
+        synchronized (this) {
+            failure = commandHistoryWriteFailure;
+            commandHistoryWriteFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -1,8 +1,17 @@
 package seedu.address.ui;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.Logic;
@@ -29,8 +38,10 @@ public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
+    private static final int MAX_NAME_COMPLETIONS = 8;
 
     private final CommandExecutor commandExecutor;
+    private final ContextMenu nameCompletionMenu = new ContextMenu();
 
     @FXML
     private TextField commandTextField;
@@ -43,6 +54,7 @@ public class CommandBox extends UiPart<Region> {
 
         setupListener(resultDisplay);
         setupCommandHistoryNavigation(logic, resultDisplay);
+        setupNameCompletion(logic);
 
         this.commandExecutor = commandExecutor;
 
@@ -81,6 +93,79 @@ public class CommandBox extends UiPart<Region> {
         });
     }
 
+    /**
+     * Shows the names of clients that complete the name being typed after {@code n/} in a find command, the only
+     * command that names existing clients, and completes it with the first of them when TAB is pressed.
+     * @param logic gets the name completions from the address book
+     */
+    private void setupNameCompletion(Logic logic) {
+        commandTextField.textProperty().addListener((observable, oldValue, newValue) ->
+                showNameCompletions(logic, newValue));
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB && nameCompletionMenu.isShowing()) {
+                nameCompletionMenu.getItems().get(0).fire();
+                event.consume();
+            }
+        });
+    }
+
+    private void showNameCompletions(Logic logic, String commandText) {
+        int partialNameStart = getPartialNameStart(commandText);
+        if (partialNameStart == -1 || partialNameStart == commandText.length()) {
+            nameCompletionMenu.hide();
+            return;
+        }
+
+        String partialName = commandText.substring(partialNameStart);
+        List<String> completions = logic.getNameCompletions(partialName, MAX_NAME_COMPLETIONS);
+        if (completions.isEmpty()
+                || (completions.size() == 1 && completions.get(0).equalsIgnoreCase(partialName))) {
+            nameCompletionMenu.hide();
+            return;
+        }
+
+        List<MenuItem> completionItems = new ArrayList<>(completions.size());
+        for (String completion : completions) {
+            MenuItem completionItem = new MenuItem(completion);
+            completionItem.setOnAction(event -> {
+                commandTextField.setText(commandText.substring(0, partialNameStart) + completion + " ");
+                commandTextField.positionCaret(commandTextField.getText().length());
+            });
+            completionItems.add(completionItem);
+        }
+        nameCompletionMenu.getItems().setAll(completionItems);
+        if (!nameCompletionMenu.isShowing()) {
+            nameCompletionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    /**
+     * Returns the index at which the partially typed name of an existing client at the end of {@code commandText}
+     * starts, or -1 if {@code commandText} is not a find command ending with a name. The names given to add or
+     * edit a client are new, so they are not completed.
+     */
+    private static int getPartialNameStart(String commandText) {
+        if (!commandText.startsWith(FindCommand.COMMAND_WORD + " ")) {
+            return -1;
+        }
+        int lastWordStart = commandText.lastIndexOf(' ') + 1;
+        if (commandText.startsWith(PREFIX_NAME.getPrefix(), lastWordStart)) {
+            return lastWordStart + PREFIX_NAME.getPrefix().length();
+        }
+        if (commandText.indexOf('/', lastWordStart) != -1) {
+            return -1;
+        }
+
+        // a find command takes more name keywords after the first, up to the next prefix
+        String[] previousWords = commandText.substring(0, lastWordStart).trim().split("\\s+");
+        for (int i = previousWords.length - 1; i > 0; i--) {
+            if (previousWords[i].contains("/")) {
+                return previousWords[i].startsWith(PREFIX_NAME.getPrefix()) ? lastWordStart : -1;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Add listener to commandTextField to set text style to default when typing
      * and to display the command's message usage to the ResultDisplay when
@@ -152,6 +237,7 @@ public class CommandBox extends UiPart<Region> {
         }
 
         try {
+            nameCompletionMenu.hide();
             commandExecutor.execute(commandText);
             commandTextField.setText("");
         } catch (CommandException | ParseException e) {
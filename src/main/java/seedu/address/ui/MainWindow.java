@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -41,6 +42,7 @@ public class MainWindow extends UiPart<Stage> {
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private CalendarDisplay calendarDisplay;
+    private StatusBarFooter statusBarFooter;
     private TextField commandTextField;
 
     @FXML
@@ -163,14 +165,30 @@ public class MainWindow extends UiPart<Stage> {
         calendarDisplayPlaceholder.getChildren().add(calendarDisplay.getRoot());
         registerCalendarNavigationForCalendarTab();
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        updateSegmentCounts();
 
         CommandBox commandBox = new CommandBox(this::executeCommand, resultDisplay, logic);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
         this.commandTextField = commandBox.getCommandTextField();
     }
 
+    /**
+     * Executes the commands queued while the address book was loading, showing their results in turn,
+     * and updates the parts of the window that are only updated after a command.
+     */
+    void handleAddressBookLoaded(List<String> queuedCommandTexts) {
+        for (String commandText : queuedCommandTexts) {
+            try {
+                executeCommand(commandText);
+            } catch (CommandException | ParseException e) {
+                // already shown to the user by executeCommand
+            }
+        }
+        updateSegmentCounts();
+    }
+
     /**
      * Sets the default size based on {@code guiSettings}.
      */
@@ -215,6 +233,10 @@ public class MainWindow extends UiPart<Stage> {
         return personListPanel;
     }
 
+    private void updateSegmentCounts() {
+        statusBarFooter.setSegmentCounts(logic.getRiskTagCounts(), logic.getClientTagCounts());
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -225,6 +247,7 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            updateSegmentCounts();
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
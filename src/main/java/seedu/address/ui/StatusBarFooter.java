@@ -2,6 +2,8 @@ package seedu.address.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -16,6 +18,8 @@ public class StatusBarFooter extends UiPart<Region> {
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label segmentCountsStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +29,17 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows the number of clients in each risk and client segment.
+     */
+    public void setSegmentCounts(Map<String, Integer> riskTagCounts, Map<String, Integer> clientTagCounts) {
+        segmentCountsStatus.setText(formatCounts(riskTagCounts) + " | " + formatCounts(clientTagCounts));
+    }
+
+    private static String formatCounts(Map<String, Integer> counts) {
+        return counts.entrySet().stream()
+                .map(count -> count.getKey() + ": " + count.getValue())
+                .collect(Collectors.joining(", "));
+    }
+
 }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.List;
+
 import javafx.stage.Stage;
 
 /**
@@ -10,4 +12,16 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Updates the UI once the address book is fully loaded, and executes {@code queuedCommandTexts},
+     * the commands entered while it was loading.
+     */
+    void handleAddressBookLoaded(List<String> queuedCommandTexts);
+
+    /**
+     * Tells the user that the address book could not be loaded because of {@code e}, and exits the app
+     * without saving the address book.
+     */
+    void handleAddressBookLoadFailed(Throwable e);
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -50,6 +51,16 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void handleAddressBookLoaded(List<String> queuedCommandTexts) {
+        mainWindow.handleAddressBookLoaded(queuedCommandTexts);
+    }
+
+    @Override
+    public void handleAddressBookLoadFailed(Throwable e) {
+        showFatalErrorDialogAndShutdown("Failed to load the address book", e);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -1,5 +1,7 @@
 package seedu.address.ui.calendar;
 
+import java.util.ArrayList;
+import java.util.List;
 
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -24,10 +26,12 @@ import seedu.address.ui.UiPart;
 public class CalendarDisplay extends UiPart<Region> {
     private static final String FXML = "CalendarDisplay.fxml";
     private static final Insets MARGIN = new Insets(0, 50, 0, 0);
+    private static final int DAYS_IN_WEEK = 7;
     private Stage primaryStage;
     private Logic logic;
     private CalendarLogic calendarLogic;
     private GridPane calendarGrid = new CalendarGrid().getRoot();
+    private final List<CalendarEventListPanel> dayCells = new ArrayList<>();
     @FXML
     private FlowPane topCalendar = new TopCalendar().getRoot();
     @FXML
@@ -79,8 +83,9 @@ public class CalendarDisplay extends UiPart<Region> {
     /**
      * Draws the Ui for the Calendar.
      */
-    public void drawCalendar() {
+    private void drawCalendar() {
         drawHeader();
+        calendarLogic.drawDayNames();
         calendarLogic.drawBody();
     }
 
@@ -88,27 +93,6 @@ public class CalendarDisplay extends UiPart<Region> {
         topCalendar.setMargin(node, MARGIN);
     }
 
-    //@@author wongyewjon
-    /**
-     * Resets the calendarGrid.
-     */
-    public void resetGridPane() {
-        topCalendar.getChildren().clear();
-        Node node = calendarGrid.getChildren().get(0);
-        calendarGrid.getChildren().clear();
-        calendarGrid.getChildren().add(0, node);
-    }
-
-    //@@author wongyewjon
-    /**
-     * Resets the calendarGrid's body.
-     */
-    public void resetCalendarBody() {
-        Node node = calendarGrid.getChildren().get(0);
-        calendarGrid.getChildren().clear();
-        calendarGrid.getChildren().add(0, node);
-    }
-
     //@@author wongyewjon
     private void drawHeader() {
         Text textHeader = calendarLogic.getTextHeader();
@@ -135,6 +119,21 @@ public class CalendarDisplay extends UiPart<Region> {
         calendarGrid.add(node, columnIndex, rowIndex);
     }
 
+    /**
+     * Returns the cell of the calendarGrid body at {@code cellIndex}, counting from the top left cell
+     * of the body row by row. The cell is added to the calendarGrid the first time it is requested,
+     * and stays in it afterwards.
+     */
+    public CalendarEventListPanel getDayCell(int cellIndex) {
+        while (dayCells.size() <= cellIndex) {
+            CalendarEventListPanel dayCell = new CalendarEventListPanel(primaryStage);
+            int index = dayCells.size();
+            calendarGrid.add(dayCell.getCalendarEventList(), index % DAYS_IN_WEEK, index / DAYS_IN_WEEK + 1);
+            dayCells.add(dayCell);
+        }
+        return dayCells.get(cellIndex);
+    }
+
     //@@author wongyewjon
     public void setTextValidation(String validation) {
         textValidation.setTextValidation(validation);
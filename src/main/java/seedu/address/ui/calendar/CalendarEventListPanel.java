@@ -2,8 +2,11 @@ package seedu.address.ui.calendar;
 
 import static javafx.scene.paint.Color.WHITE;
 
-import javafx.collections.ObservableList;
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
@@ -12,39 +15,56 @@ import seedu.address.model.calendar.CalendarEvent;
 import seedu.address.ui.UiPart;
 
 /**
- * Panel containing the list of CalendarEvents.
+ * Panel containing the list of CalendarEvents in a day of the Calendar.
+ * The panel is reused across days and months, and reuses the {@code EventButton}s it has
+ * already created, so that redrawing the Calendar only creates buttons for the extra events.
  */
 public class CalendarEventListPanel extends UiPart<Region> {
     private static final String FXML = "CalendarEventListPanel.fxml";
-    private ObservableList<CalendarEvent> calendarDayEvents;
+    private final List<EventButton> eventButtons = new ArrayList<>();
+    private final Text tDate = new Text();
     private Stage primaryStage;
 
     @FXML
     private VBox calendarEventList;
 
     /**
-     * Creates a {@code CalendarEventListPanel} with the given {@code ObservableList}.
+     * Creates an empty {@code CalendarEventListPanel}.
      */
-    public CalendarEventListPanel(ObservableList<CalendarEvent> calendarDayEvents,
-                                  Stage primaryStage) {
+    public CalendarEventListPanel(Stage primaryStage) {
         super(FXML);
-        this.calendarDayEvents = calendarDayEvents;
         this.calendarEventList = new VBox();
         this.primaryStage = primaryStage;
+        tDate.setFill(WHITE);
     }
-    public VBox getCalendarEventList(int currentDay) {
-        Text tDate = getTextDate(currentDay);
-        calendarEventList.getChildren().add(tDate);
-        calendarDayEvents.stream().sorted()
-                .forEach(x -> calendarEventList.getChildren()
-                        .add(new EventButton(x, primaryStage).getRoot()));
+
+    public VBox getCalendarEventList() {
         return calendarEventList;
     }
 
-    private Text getTextDate(int currentDay) {
-        Text tDate = new Text(String.valueOf(currentDay));
-        tDate.setFill(WHITE);
-        return tDate;
+    /**
+     * Displays {@code currentDay} and its {@code calendarDayEvents}, in the given order.
+     */
+    public void setCalendarDayEvents(int currentDay, List<CalendarEvent> calendarDayEvents) {
+        tDate.setText(String.valueOf(currentDay));
+        List<Node> children = new ArrayList<>(calendarDayEvents.size() + 1);
+        children.add(tDate);
+        for (int i = 0; i < calendarDayEvents.size(); i++) {
+            CalendarEvent calendarEvent = calendarDayEvents.get(i);
+            if (i < eventButtons.size()) {
+                eventButtons.get(i).setCalendarEvent(calendarEvent);
+            } else {
+                eventButtons.add(new EventButton(calendarEvent, primaryStage));
+            }
+            children.add(eventButtons.get(i).getRoot());
+        }
+        calendarEventList.getChildren().setAll(children);
     }
 
+    /**
+     * Displays nothing, for the cells of the Calendar that are not in the current month.
+     */
+    public void clear() {
+        calendarEventList.getChildren().clear();
+    }
 }
@@ -1,5 +1,7 @@
 package seedu.address.ui.calendar;
 
+import static java.util.Objects.requireNonNull;
+
 import javafx.beans.Observable;
 import javafx.beans.value.ChangeListener;
 import javafx.event.ActionEvent;
@@ -10,7 +12,8 @@ import javafx.stage.Stage;
 import seedu.address.model.calendar.CalendarEvent;
 
 /**
- * Button that contains a CalendarEvent.
+ * Button that contains a CalendarEvent. The button can be reused for another CalendarEvent
+ * with {@link #setCalendarEvent(CalendarEvent)}, and its popup is only created when it is first shown.
  */
 public class EventButton extends CalendarButton {
     private static final String FXML = "EventButton.fxml";
@@ -19,7 +22,6 @@ public class EventButton extends CalendarButton {
     private static final int HALF_CONTENT_WIDTH = 150;
     private Stage primaryStage;
     private CalendarEvent calendarEvent;
-    @FXML
     private CalendarPopup calendarPopup;
     @FXML
     private Button eventButton;
@@ -29,20 +31,28 @@ public class EventButton extends CalendarButton {
      */
     public EventButton(CalendarEvent calendarEvent, Stage primaryStage) {
         super(FXML);
-        this.calendarEvent = calendarEvent;
         this.primaryStage = primaryStage;
-        this.calendarPopup = new CalendarPopup(calendarEvent, eventButton);
         initialiseEventButton();
+        setCalendarEvent(calendarEvent);
     }
 
-    private void initialiseEventButton() {
+    /**
+     * Displays {@code calendarEvent} on this button in place of its current CalendarEvent.
+     */
+    public void setCalendarEvent(CalendarEvent calendarEvent) {
+        requireNonNull(calendarEvent);
+        if (calendarEvent.equals(this.calendarEvent)) {
+            return;
+        }
+        hidePopup();
+        this.calendarEvent = calendarEvent;
+        this.calendarPopup = null;
         eventButton.setText(calendarEvent.getTimeFormat() + " " + calendarEvent.getName());
+    }
+
+    private void initialiseEventButton() {
         eventButton.focusedProperty().addListener(this::handleFocusedEvent);
-        ChangeListener<Number> stageSizeListener = (observable, oldValue, newValue) -> {
-            if (calendarPopup.getRoot().isShowing()) {
-                calendarPopup.getRoot().hide();
-            }
-        };
+        ChangeListener<Number> stageSizeListener = (observable, oldValue, newValue) -> hidePopup();
         primaryStage.heightProperty().addListener(stageSizeListener);
         primaryStage.widthProperty().addListener(stageSizeListener);
         primaryStage.xProperty().addListener(stageSizeListener);
@@ -51,24 +61,37 @@ public class EventButton extends CalendarButton {
 
     @FXML @Override
     protected void handleOnAction(ActionEvent event) {
-        if (!calendarPopup.getRoot().isShowing()) {
+        if (!isPopupShowing()) {
             displayPopup();
         }
     }
 
     @FXML @Override
     protected void handleFocusedEvent(Observable observable) {
-        if (!calendarPopup.getRoot().isShowing() && eventButton.isFocused()) {
+        if (!isPopupShowing() && eventButton.isFocused()) {
             eventButton.setStyle(EVENT_BUTTON_STYLE + ORANGE_BORDER);
             displayPopup();
         }
         if (!eventButton.isFocused()) {
             eventButton.setStyle(EVENT_BUTTON_STYLE + GREY_BORDER);
+            hidePopup();
+        }
+    }
+
+    private boolean isPopupShowing() {
+        return calendarPopup != null && calendarPopup.getRoot().isShowing();
+    }
+
+    private void hidePopup() {
+        if (isPopupShowing()) {
             calendarPopup.getRoot().hide();
         }
     }
 
     private void displayPopup() {
+        if (calendarPopup == null) {
+            calendarPopup = new CalendarPopup(calendarEvent, eventButton);
+        }
         Point2D p = eventButton.localToScene(ORIGIN, ORIGIN);
         calendarPopup.getRoot().show(eventButton,
                 eventButton.getScene().getWindow().getWidth() / 2 - HALF_CONTENT_WIDTH
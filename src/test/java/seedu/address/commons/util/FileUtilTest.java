@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,74 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_missingParentDirectory_fileCreated() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+    }
+
+    @Test
+    public void writeToFile_existingFile_replacedWithoutBackup() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+        FileUtil.writeToFile(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getBackupPath(file)));
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void writeAtomicallyWithBackup_existingFile_replacedAndPreviousContentsBackedUp() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeAtomicallyWithBackup(file, out -> out.write("first".getBytes()));
+        FileUtil.writeAtomicallyWithBackup(file, out -> out.write("second".getBytes()));
+        FileUtil.writeAtomicallyWithBackup(file, out -> out.write("third".getBytes()));
+        assertEquals("third", FileUtil.readFromFile(file));
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupPath(file)));
+        assertEquals(2, countFiles());
+    }
+
+    @Test
+    public void writeAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "first");
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("disk full");
+        }));
+        assertEquals("first", FileUtil.readFromFile(file));
+        // no temporary file is left behind
+        assertEquals(1, countFiles());
+    }
+
+    @Test
+    public void newInputStream_largeFile_contentsRead() throws Exception {
+        Path file = testFolder.resolve("large.txt");
+        String content = "0123456789abcdef".repeat(1 << 17);
+        FileUtil.writeToFile(file, content);
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertEquals(content.length(), in.available());
+            assertEquals('0', in.read());
+            assertEquals(15, in.skip(15));
+            assertEquals(content.substring(16), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    public void newInputStream_smallFile_contentsRead() throws Exception {
+        Path file = testFolder.resolve("small.txt");
+        FileUtil.writeToFile(file, "small");
+        try (InputStream in = FileUtil.newInputStream(file)) {
+            assertEquals("small", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private long countFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.count();
+        }
+    }
 }
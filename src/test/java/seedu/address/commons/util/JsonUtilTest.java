@@ -1,9 +1,15 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +45,32 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void writeThenReadJsonArray_elementsConvertedOneAtATime_sameElements() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonUtil.writeJsonArray(out, "numbers", List.of(1, 2, 3), number -> "n" + number);
+
+        List<String> read = new ArrayList<>();
+        JsonUtil.readJsonArray(new ByteArrayInputStream(out.toByteArray()), "numbers", String.class, read::add);
+        assertEquals(List.of("n1", "n2", "n3"), read);
+    }
+
+    @Test
+    public void readJsonArray_otherFields_fieldsSkipped() throws Exception {
+        String json = "{ \"other\" : { \"numbers\" : [ \"x\" ] }, \"numbers\" : [ \"a\", \"b\" ], \"last\" : 1 }";
+        List<String> read = new ArrayList<>();
+        JsonUtil.readJsonArray(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "numbers",
+                String.class, read::add);
+        assertEquals(List.of("a", "b"), read);
+    }
+
+    @Test
+    public void readJsonArray_truncatedObject_throwsIoException() {
+        String json = "{ \"numbers\" : [ \"a\", \"b\" ]";
+        ByteArrayInputStream in = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> JsonUtil.readJsonArray(in, "numbers", String.class, unused -> {}));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -123,6 +124,89 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsAnyWordIgnoreCase --------------------------------------
+
+    @Test
+    public void containsAnyWordIgnoreCase_nullWords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsAnyWordIgnoreCase("typical sentence",
+                null));
+    }
+
+    @Test
+    public void containsAnyWordIgnoreCase_nullSentence_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsAnyWordIgnoreCase(null,
+                new String[] {"abc"}));
+    }
+
+    @Test
+    public void containsAnyWordIgnoreCase_validInputs_correctResult() {
+
+        // No words or empty sentence
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbb", new String[0]));
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("", new String[] {"abc"})); // Boundary case
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("    ", new String[] {"123"}));
+
+        // Matches a partial word only
+        assertFalse(StringUtil.containsAnyWordIgnoreCase("aaa bbb ccc", new String[] {"bb", "bbbb"}));
+
+        // Matches any word in the sentence, different upper/lower case letters
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa bBb ccc", new String[] {"xyz", "AAA"}));
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("aaa bBb ccc@1", new String[] {"CCc@1"}));
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("  AAA \t bBb   ccc  ", new String[] {"bbb"}));
+        assertTrue(StringUtil.containsAnyWordIgnoreCase("Aaa", new String[] {"aaa"}));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.getEditDistance("abc", null));
+    }
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc")); // Boundary case
+        assertEquals(0, StringUtil.getEditDistance("JOHN", "JOHN"));
+        assertEquals(1, StringUtil.getEditDistance("JOHN", "JON")); // Deletion
+        assertEquals(1, StringUtil.getEditDistance("JON", "JOHN")); // Insertion
+        assertEquals(1, StringUtil.getEditDistance("JOHN", "JOAN")); // Substitution
+        assertEquals(2, StringUtil.getEditDistance("JOHN", "JONH")); // Transposition
+        assertEquals(3, StringUtil.getEditDistance("KITTEN", "SITTING"));
+        assertEquals(1, StringUtil.getEditDistance("john", "John")); // Case sensitive
+    }
+
+    //---------------- Tests for parseUnsignedLongClamped ------------------------
+
+    @Test
+    public void parseUnsignedLongClamped_digits_valueOrMaxValue() {
+        assertEquals(0, StringUtil.parseUnsignedLongClamped("0"));
+        assertEquals(123, StringUtil.parseUnsignedLongClamped("123"));
+        assertEquals(Long.MAX_VALUE, StringUtil.parseUnsignedLongClamped(String.valueOf(Long.MAX_VALUE)));
+        assertEquals(Long.MAX_VALUE, StringUtil.parseUnsignedLongClamped("99999999999999999999")); // too large
+    }
+
+    @Test
+    public void parseUnsignedLongClamped_notDigits_throwsNumberFormatException() {
+        assertThrows(NumberFormatException.class, () -> StringUtil.parseUnsignedLongClamped(""));
+        assertThrows(NumberFormatException.class, () -> StringUtil.parseUnsignedLongClamped("-1"));
+        assertThrows(NumberFormatException.class, () -> StringUtil.parseUnsignedLongClamped("+1"));
+        assertThrows(NumberFormatException.class, () -> StringUtil.parseUnsignedLongClamped("1a"));
+        assertThrows(NumberFormatException.class, () -> StringUtil.parseUnsignedLongClamped("-99999999999999999999"));
+    }
+
+    //---------------- Tests for compareUnsignedDigits ---------------------------
+
+    @Test
+    public void compareUnsignedDigits_digits_comparedByValue() {
+        assertEquals(0, StringUtil.compareUnsignedDigits("123", "123"));
+        assertTrue(StringUtil.compareUnsignedDigits("9", "10") < 0); // shorter is smaller
+        assertTrue(StringUtil.compareUnsignedDigits("11", "10") > 0); // same length compared digit by digit
+        assertTrue(StringUtil.compareUnsignedDigits("99999999999999999999", "99999999999999999998") > 0);
+        assertTrue(StringUtil.compareUnsignedDigits("99999999999999999999", "100000000000000000000") < 0);
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
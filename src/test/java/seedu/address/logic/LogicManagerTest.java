@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -16,7 +17,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +27,8 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -105,6 +110,35 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void execute_whileLoading_commandQueued() throws Exception {
+        logic.startLoading();
+        String listCommand = ListCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, String.format(LogicManager.MESSAGE_COMMAND_QUEUED, listCommand), model);
+        assertEquals(List.of(listCommand), logic.finishLoading());
+
+        // executed once loading is finished
+        assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_exitAfterQueuedCommand_exitQueuedBehindIt() throws Exception {
+        logic.startLoading();
+        String listCommand = ListCommand.COMMAND_WORD;
+        String exitCommand = ExitCommand.COMMAND_WORD;
+        assertCommandSuccess(listCommand, String.format(LogicManager.MESSAGE_COMMAND_QUEUED, listCommand), model);
+        assertCommandSuccess(exitCommand, String.format(LogicManager.MESSAGE_COMMAND_QUEUED, exitCommand), model);
+        assertEquals(List.of(listCommand, exitCommand), logic.finishLoading());
+    }
+
+    @Test
+    public void execute_helpWhileLoading_executedWithoutSavingAddressBook() throws Exception {
+        logic.startLoading();
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+        assertEquals(List.of(), logic.finishLoading());
+        assertFalse(Files.exists(temporaryFolder.resolve("FAP.json")));
+    }
+
 
 
     /**
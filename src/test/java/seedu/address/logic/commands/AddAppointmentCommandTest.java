@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.AddAppointmentCommand.MESSAGE_DUPLICATE_APPOINTMENT_DATE_TIME;
+import static seedu.address.logic.commands.AddAppointmentCommand.MESSAGE_MAXIMUM_NUMBER_OF_APPOINTMENTS;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DATETIME_21_JAN_2023;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DATETIME_22_JAN_2023;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LOCATION_NUS;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.appointment.Appointment;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.AppointmentBuilder;
@@ -109,6 +111,20 @@ public class AddAppointmentCommandTest {
         assertCommandFailure(addAppointmentCommand, testModel, MESSAGE_DUPLICATE_APPOINTMENT_DATE_TIME);
     }
 
+    @Test
+    public void execute_maximumAppointmentsFromUserPrefsReached_failure() {
+        Model testModel = new ModelBuilder().build();
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxAppointmentsPerClient(1);
+        testModel.setUserPrefs(userPrefs);
+
+        AddAppointmentCommand addAppointmentCommand =
+                new AddAppointmentCommand(INDEX_FIRST_PERSON, new AppointmentBuilder().build());
+
+        assertCommandFailure(addAppointmentCommand, testModel,
+                String.format(MESSAGE_MAXIMUM_NUMBER_OF_APPOINTMENTS, 1));
+    }
+
     @Test
     public void execute_invalidPersonIndexUnfilteredList_failure() {
         Model testModel = new ModelBuilder().build();
@@ -17,6 +17,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_LOCATION_FIELD_APPOINTMENT_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLIENTTAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INCOME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTHLY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
@@ -36,6 +37,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.ClientTagContainsKeywordsPredicate;
 import seedu.address.model.person.FindPredicate;
+import seedu.address.model.person.FuzzyNameContainsKeywordsPredicate;
 import seedu.address.model.person.Income;
 import seedu.address.model.person.IncomeContainsKeywordsPredicate;
 import seedu.address.model.person.Monthly;
@@ -73,6 +75,14 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_NAME.getPrefix() + "Alice  \t \n Bob", expectedFindCommand);
     }
 
+    @Test
+    public void parse_validFuzzyNameArgs_success() {
+        List<FindPredicate> predicates = new ArrayList<>();
+        predicates.add(new FuzzyNameContainsKeywordsPredicate(Arrays.asList("Alise", "Bobb")));
+        FindCommand expectedFindCommand = new FindCommand(predicates);
+        assertParseSuccess(parser, " " + PREFIX_FUZZY_NAME.getPrefix() + "Alise Bobb", expectedFindCommand);
+    }
+
     @Test
     public void parse_validPhoneArgs_success() {
         // no leading and trailing whitespaces
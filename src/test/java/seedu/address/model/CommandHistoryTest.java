@@ -1,7 +1,8 @@
 package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static seedu.address.model.CommandHistory.MAX_COMMAND_HISTORY_SIZE;
+import static seedu.address.model.CommandHistory.DEFAULT_MAX_COMMAND_HISTORY_SIZE;
+import static seedu.address.model.CommandHistory.MAXIMUM_MAX_COMMAND_HISTORY_SIZE;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.ArrayList;
@@ -52,14 +53,14 @@ public class CommandHistoryTest {
     public void addToFullCommandHistoryList() {
         List<String> commandHistoryList = new ArrayList<>();
         CommandHistory expected = new CommandHistory();
-        for (int i = 1; i <= MAX_COMMAND_HISTORY_SIZE; i++) {
+        for (int i = 1; i <= DEFAULT_MAX_COMMAND_HISTORY_SIZE; i++) {
             commandHistoryList.add("find " + i);
         }
         expected.setCommandHistoryList(commandHistoryList);
 
         List<String> actualCommandHistoryList = new ArrayList<>();
         CommandHistory actual = new CommandHistory();
-        for (int i = 0; i <= MAX_COMMAND_HISTORY_SIZE; i++) {
+        for (int i = 0; i <= DEFAULT_MAX_COMMAND_HISTORY_SIZE; i++) {
             actualCommandHistoryList.add("find " + i);
         }
         actual.setCommandHistoryList(commandHistoryList);
@@ -74,7 +75,7 @@ public class CommandHistoryTest {
         expected.setCurrentZeroBasedIndex(1);
 
         CommandHistory actual = new CommandHistory();
-        for (int i = 0; i < MAX_COMMAND_HISTORY_SIZE; i++) {
+        for (int i = 0; i < DEFAULT_MAX_COMMAND_HISTORY_SIZE; i++) {
             actual.addToCommandHistory("list");
         }
 
@@ -97,7 +98,7 @@ public class CommandHistoryTest {
     public void getPrevCommand_atZeroIndex_onNonEmptyCommandList() {
         CommandHistory actual = new CommandHistory();
         List<String> commandHistoryList = new ArrayList<>();
-        for (int i = 0; i < MAX_COMMAND_HISTORY_SIZE / 2; i++) {
+        for (int i = 0; i < DEFAULT_MAX_COMMAND_HISTORY_SIZE / 2; i++) {
             commandHistoryList.add("find " + i);
         }
         actual.setCommandHistoryList(commandHistoryList);
@@ -109,7 +110,7 @@ public class CommandHistoryTest {
     public void getNextCommand_atMaxIndex_onNonEmptyCommandList() {
         CommandHistory actual = new CommandHistory();
         List<String> commandHistoryList = new ArrayList<>();
-        int listSize = MAX_COMMAND_HISTORY_SIZE / 2;
+        int listSize = DEFAULT_MAX_COMMAND_HISTORY_SIZE / 2;
         int maxIndex = listSize - 1;
         for (int i = 0; i < listSize; i++) {
             commandHistoryList.add("find " + i);
@@ -125,7 +126,7 @@ public class CommandHistoryTest {
     public void getNextCommand_beyondMaxIndex_onNonEmptyCommandList() {
         CommandHistory actual = new CommandHistory();
         List<String> commandHistoryList = new ArrayList<>();
-        int listSize = MAX_COMMAND_HISTORY_SIZE / 2;
+        int listSize = DEFAULT_MAX_COMMAND_HISTORY_SIZE / 2;
         int beyondMaxIndex = listSize;
         for (int i = 0; i < listSize; i++) {
             commandHistoryList.add("find " + i);
@@ -146,7 +147,7 @@ public class CommandHistoryTest {
 
         CommandHistory actual = new CommandHistory();
         List<String> commandHistoryList = new ArrayList<>();
-        for (int i = 0; i <= MAX_COMMAND_HISTORY_SIZE / 2; i++) {
+        for (int i = 0; i <= DEFAULT_MAX_COMMAND_HISTORY_SIZE / 2; i++) {
             commandHistoryList.add("find " + i);
         }
         actual.setCommandHistoryList(commandHistoryList);
@@ -161,7 +162,7 @@ public class CommandHistoryTest {
 
         CommandHistory actual = new CommandHistory();
         List<String> commandHistoryList = new ArrayList<>();
-        for (int i = 0; i <= MAX_COMMAND_HISTORY_SIZE / 2; i++) {
+        for (int i = 0; i <= DEFAULT_MAX_COMMAND_HISTORY_SIZE / 2; i++) {
             commandHistoryList.add("find " + i);
         }
         actual.setCommandHistoryList(commandHistoryList);
@@ -174,18 +175,80 @@ public class CommandHistoryTest {
     public void resetCurrentIndexToBeyondMaxIndex() {
         CommandHistory actual = new CommandHistory();
         List<String> commandHistoryList = new ArrayList<>();
-        for (int i = 0; i < MAX_COMMAND_HISTORY_SIZE; i++) {
+        for (int i = 0; i < DEFAULT_MAX_COMMAND_HISTORY_SIZE; i++) {
             commandHistoryList.add("find " + i);
         }
         actual.setCommandHistoryList(commandHistoryList);
         actual.setCurrentZeroBasedIndex(0);
         actual.resetCurrentIndexToBeyondMaxIndex();
 
-        assertEquals(actual.getCurrentZeroBasedIndex(), MAX_COMMAND_HISTORY_SIZE);
+        assertEquals(actual.getCurrentZeroBasedIndex(), DEFAULT_MAX_COMMAND_HISTORY_SIZE);
     }
 
 
 
+    @Test
+    public void constructor_invalidMaxSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(0));
+        assertThrows(IllegalArgumentException.class, () -> new CommandHistory(MAXIMUM_MAX_COMMAND_HISTORY_SIZE + 1));
+    }
+
+    @Test
+    public void addToCommandHistory_beyondMaxSize_oldestCommandsEvicted() {
+        int maxSize = 50;
+        CommandHistory actual = new CommandHistory(maxSize);
+        List<String> expectedCommandHistoryList = new ArrayList<>();
+        for (int i = 0; i < maxSize * 3 + 7; i++) {
+            actual.addToCommandHistory("find " + i);
+            expectedCommandHistoryList.add("find " + i);
+        }
+
+        List<String> latestCommands = expectedCommandHistoryList.subList(expectedCommandHistoryList.size() - maxSize,
+                expectedCommandHistoryList.size());
+        assertEquals(latestCommands, actual.getCommandHistoryList());
+        assertEquals(maxSize, actual.getCurrentZeroBasedIndex());
+        assertEquals(latestCommands.get(maxSize - 1), actual.getPrevCommand());
+        assertEquals(latestCommands.get(maxSize - 2), actual.getPrevCommand());
+        assertEquals(latestCommands.get(maxSize - 1), actual.getNextCommand());
+        assertEquals("", actual.getNextCommand());
+    }
+
+    @Test
+    public void setCommandHistoryList_beyondMaxSize_latestCommandsKept() {
+        List<String> commandHistoryList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            commandHistoryList.add("find " + i);
+        }
+        CommandHistory actual = new CommandHistory(3);
+        actual.setCommandHistoryList(commandHistoryList);
+
+        assertEquals(commandHistoryList.subList(2, 5), actual.getCommandHistoryList());
+        assertEquals(3, actual.getCurrentZeroBasedIndex());
+    }
+
+    @Test
+    public void copyConstructor_withMaxSize_latestCommandsKept() {
+        CommandHistory original = new CommandHistory(DEFAULT_MAX_COMMAND_HISTORY_SIZE * 2);
+        for (int i = 0; i < DEFAULT_MAX_COMMAND_HISTORY_SIZE * 2; i++) {
+            original.addToCommandHistory("find " + i);
+        }
+
+        // copies keep every command by default
+        assertEquals(original.getCommandHistoryList(), new CommandHistory(original).getCommandHistoryList());
+
+        List<String> copiedCommandHistoryList = new CommandHistory(original, 1).getCommandHistoryList();
+        assertEquals(Collections.singletonList("find " + (DEFAULT_MAX_COMMAND_HISTORY_SIZE * 2 - 1)),
+                copiedCommandHistoryList);
+    }
+
+    @Test
+    public void getCommandHistoryList_addCommand_viewUpdated() {
+        CommandHistory actual = new CommandHistory();
+        List<String> commandHistoryList = actual.getCommandHistoryList();
+        actual.addToCommandHistory("list");
+        assertEquals(Collections.singletonList("list"), commandHistoryList);
+    }
+
     @Test
     public void getCommandHistoryList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> commandHistory.getCommandHistoryList().remove(0));
@@ -7,18 +7,25 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -95,6 +102,37 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_finds_showsPersonsPassingEveryFindInOrder() {
+        modelManager.addPersons(List.of(ALICE, BENSON, CARL, DANIEL));
+        modelManager.updateFilteredPersonList(List.of(new NameContainsKeywordsPredicate(List.of("Meier")),
+                new NameContainsKeywordsPredicate(List.of("Alice"))));
+        assertEquals(List.of(ALICE, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(List.of(new NameContainsKeywordsPredicate(List.of("Daniel", "Carl"))));
+        assertEquals(List.of(DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_personsChangedAfterFind_showsPersonsPassingFind() {
+        modelManager.addPersons(List.of(ALICE, BENSON, CARL, DANIEL));
+        modelManager.updateFilteredPersonList(List.of(new NameContainsKeywordsPredicate(List.of("Meier"))));
+
+        Person editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        modelManager.setPerson(CARL, editedCarl);
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Kurz").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.addPersons(List.of(ELLE, HOON));
+        assertEquals(List.of(editedCarl, DANIEL, HOON), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(DANIEL);
+        modelManager.sortPerson(Comparator.comparing(person -> person.getName().fullName, Comparator.reverseOrder()));
+        assertEquals(List.of(HOON, editedCarl), modelManager.getFilteredPersonList());
+
+        modelManager.setAddressBook(new AddressBookBuilder().withPerson(BENSON).withPerson(DANIEL).build());
+        assertEquals(List.of(BENSON, DANIEL), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getCommandHistoryList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getCommandHistory()
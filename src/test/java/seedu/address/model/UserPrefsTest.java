@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.CommandHistory.MAXIMUM_MAX_COMMAND_HISTORY_SIZE;
+import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,38 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setMaxAppointmentsPerClient_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxAppointmentsPerClient(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                userPrefs.setMaxAppointmentsPerClient(MAXIMUM_NUM_OF_APPOINTMENTS + 1));
+    }
+
+    @Test
+    public void setMaxAppointmentsPerClient_withinRange_success() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxAppointmentsPerClient(MAXIMUM_NUM_OF_APPOINTMENTS);
+        assertEquals(MAXIMUM_NUM_OF_APPOINTMENTS, userPrefs.getMaxAppointmentsPerClient());
+        assertFalse(userPrefs.equals(new UserPrefs()));
+    }
+
+    @Test
+    public void setMaxCommandHistorySize_outOfRange_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxCommandHistorySize(0));
+        assertThrows(IllegalArgumentException.class, () ->
+                userPrefs.setMaxCommandHistorySize(MAXIMUM_MAX_COMMAND_HISTORY_SIZE + 1));
+    }
+
+    @Test
+    public void setMaxCommandHistorySize_withinRange_success() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxCommandHistorySize(MAXIMUM_MAX_COMMAND_HISTORY_SIZE);
+        assertEquals(MAXIMUM_MAX_COMMAND_HISTORY_SIZE, userPrefs.getMaxCommandHistorySize());
+        assertFalse(userPrefs.equals(new UserPrefs()));
+    }
+
     @Test
     public void test() {
         UserPrefs userPrefs = new UserPrefs();
@@ -0,0 +1,74 @@
+package seedu.address.model.calendar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class CalendarEventListTest {
+    private final Appointment earlyAppointment = new AppointmentBuilder()
+            .withDateTime("01-04-2023 09:00").build();
+    private final Appointment middleAppointment = new AppointmentBuilder()
+            .withDateTime("15-04-2023 09:00").build();
+    private final Appointment lateAppointment = new AppointmentBuilder()
+            .withDateTime("01-05-2023 09:00").build();
+    private final Person amy = new PersonBuilder().withName("Amy Bee").withAppointment(lateAppointment).build();
+    private final Person bob = new PersonBuilder().withName("Bob Choo").withAppointment(earlyAppointment).build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CalendarEventList(null));
+    }
+
+    @Test
+    public void constructor_persons_eventsSortedByDateTime() {
+        CalendarEventList calendarEventList = new CalendarEventList(FXCollections.observableArrayList(amy, bob));
+        assertEquals(List.of(new CalendarEvent(bob.getName(), earlyAppointment),
+                new CalendarEvent(amy.getName(), lateAppointment)),
+                calendarEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void update_personRemoved_removesOnlyTheirEvents() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(amy, bob);
+        CalendarEventList calendarEventList = new CalendarEventList(persons);
+        CalendarEvent bobEvent = calendarEventList.asUnmodifiableObservableList().get(0);
+
+        persons.remove(amy);
+        calendarEventList.update();
+
+        assertEquals(List.of(bobEvent), calendarEventList.asUnmodifiableObservableList());
+        assertTrue(bobEvent == calendarEventList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void update_appointmentAdded_firesSingleChange() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(amy);
+        CalendarEventList calendarEventList = new CalendarEventList(persons);
+        List<ListChangeListener.Change<? extends CalendarEvent>> changes = new ArrayList<>();
+        calendarEventList.asUnmodifiableObservableList().addListener(changes::add);
+
+        amy.getAppointments().add(middleAppointment);
+        persons.add(bob);
+        assertTrue(changes.isEmpty());
+
+        calendarEventList.update();
+        assertEquals(1, changes.size());
+        assertEquals(List.of(new CalendarEvent(bob.getName(), earlyAppointment),
+                new CalendarEvent(amy.getName(), middleAppointment),
+                new CalendarEvent(amy.getName(), lateAppointment)),
+                calendarEventList.asUnmodifiableObservableList());
+    }
+}
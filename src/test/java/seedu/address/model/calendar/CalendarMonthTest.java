@@ -63,6 +63,32 @@ public class CalendarMonthTest {
         assertEquals(calendarEvents, calendarMonth.getCalendarEventInDayOfMonth(1, 4, 2023));
     }
 
+    @Test
+    public void method_getCalendarEventInDayOfMonth_sortedByTime() {
+        Appointment laterOnSameDay = new Appointment(new DateTime(
+                DateTimeParser.parseLocalDateTimeFromString("01-04-2023 13:00")),
+                new Location("NUS TechnoEdge"));
+        CalendarEvent laterEvent = new CalendarEvent(BOB, laterOnSameDay);
+        CalendarEvent firstEvent = new CalendarEvent(AMY, firstAppointment);
+        CalendarMonth calendarMonth = new CalendarMonth(FXCollections.observableArrayList(laterEvent, firstEvent));
+
+        assertEquals(FXCollections.observableArrayList(firstEvent, laterEvent),
+                calendarMonth.getCalendarEventInDayOfMonth(1, 4, 2023));
+        assertTrue(calendarMonth.getCalendarEventInDayOfMonth(2, 4, 2023).isEmpty());
+    }
+
+    @Test
+    public void method_getCalendarEventInDayOfMonthAfterEventsChange_returnsUpdatedEvents() {
+        ObservableList<CalendarEvent> calendarEvents = FXCollections.observableArrayList();
+        CalendarMonth calendarMonth = new CalendarMonth(calendarEvents);
+        assertTrue(calendarMonth.getCalendarEventInDayOfMonth(1, 5, 2023).isEmpty());
+
+        CalendarEvent secondEvent = new CalendarEvent(AMY, secondAppointment);
+        calendarEvents.add(secondEvent);
+        assertEquals(FXCollections.observableArrayList(secondEvent),
+                calendarMonth.getCalendarEventInDayOfMonth(1, 5, 2023));
+    }
+
     @Test
     public void constructor_nameNull_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new CalendarMonth(null));
@@ -0,0 +1,91 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
+import seedu.address.model.util.MaximumSortedList;
+import seedu.address.testutil.AppointmentBuilder;
+
+public class AppointmentListTest {
+    private final Appointment earlyAppointment = new AppointmentBuilder()
+            .withDateTime("01-01-1960 08:15").withLocation("NUS").build();
+    private final Appointment middleAppointment = new AppointmentBuilder()
+            .withDateTime("21-01-2023 09:00").withLocation("Westmall").build();
+    private final Appointment lateAppointment = new AppointmentBuilder()
+            .withDateTime("31-12-2099 23:59").withLocation("NUS").build();
+
+    @Test
+    public void add_unsortedAppointments_storedInSortedOrder() {
+        AppointmentList appointmentList = new AppointmentList();
+        appointmentList.add(lateAppointment);
+        appointmentList.add(earlyAppointment);
+        appointmentList.add(middleAppointment);
+
+        assertEquals(List.of(earlyAppointment, middleAppointment, lateAppointment),
+                appointmentList.getObservableList());
+    }
+
+    @Test
+    public void add_manyAppointments_allStored() {
+        AppointmentList appointmentList = new AppointmentList();
+        for (int i = 0; i < 100; i++) {
+            assertTrue(appointmentList.add(new AppointmentBuilder()
+                    .withDateTime(String.format("%02d-01-2023 %02d:00", i % 28 + 1, i / 28))
+                    .build()));
+        }
+        assertEquals(100, appointmentList.size());
+        assertTrue(appointmentList.size() < MAXIMUM_NUM_OF_APPOINTMENTS);
+    }
+
+    @Test
+    public void remove_appointment_removesMatchingDateTimeAndLocation() {
+        AppointmentList appointmentList = new AppointmentList();
+        appointmentList.add(earlyAppointment);
+        appointmentList.add(middleAppointment);
+
+        assertEquals(middleAppointment, appointmentList.remove(middleAppointment));
+        assertFalse(appointmentList.contains(middleAppointment));
+        assertTrue(appointmentList.contains(earlyAppointment));
+    }
+
+    @Test
+    public void contains_sameDateTimeDifferentLocation_returnsFalse() {
+        AppointmentList appointmentList = new AppointmentList();
+        appointmentList.add(earlyAppointment);
+        appointmentList.add(middleAppointment);
+
+        assertTrue(appointmentList.contains(new AppointmentBuilder()
+                .withDateTime("21-01-2023 09:00").withLocation("Westmall").build()));
+        assertFalse(appointmentList.contains(new AppointmentBuilder()
+                .withDateTime("21-01-2023 09:00").withLocation("NUS").build()));
+        assertFalse(appointmentList.contains(new AppointmentBuilder()
+                .withDateTime("21-01-2023 09:01").withLocation("Westmall").build()));
+    }
+
+    @Test
+    public void equals() {
+        AppointmentList appointmentList = new AppointmentList();
+        appointmentList.add(earlyAppointment);
+        appointmentList.add(lateAppointment);
+
+        // copy -> returns true
+        assertEquals(appointmentList, new AppointmentList(appointmentList));
+
+        // same appointments in a plain list -> returns true
+        MaximumSortedList<Appointment> plainList = new MaximumSortedList<>(MAXIMUM_NUM_OF_APPOINTMENTS);
+        plainList.add(lateAppointment);
+        plainList.add(earlyAppointment);
+        assertEquals(appointmentList, plainList);
+
+        // different appointments -> returns false
+        assertFalse(appointmentList.equals(new AppointmentList()));
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class CombinedFindPredicateTest {
+    private final Person alice = new PersonBuilder().withName("Alice Pauline").withRiskTag("LOW").build();
+    private final Person benson = new PersonBuilder().withName("Benson Meier").withRiskTag("HIGH").build();
+
+    @Test
+    public void narrow_nullPredicates_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CombinedFindPredicate.narrow(null, null));
+    }
+
+    @Test
+    public void test_noPredicates_returnsFalse() {
+        assertFalse(CombinedFindPredicate.narrow(null, Collections.emptyList()).test(alice));
+    }
+
+    @Test
+    public void test_anyPredicateOfFindMatches_returnsTrue() {
+        CombinedFindPredicate predicate = CombinedFindPredicate.narrow(null, List.of(
+                new NameContainsKeywordsPredicate(List.of("Benson")),
+                new RiskTagContainsKeywordsPredicate(List.of("LOW"))));
+        assertTrue(predicate.test(alice));
+        assertTrue(predicate.test(benson));
+    }
+
+    @Test
+    public void test_subsequentFind_matchesPersonsOfEveryFind() {
+        CombinedFindPredicate firstFind = CombinedFindPredicate.narrow(person -> person != benson,
+                List.of(new NameContainsKeywordsPredicate(List.of("Alice", "Benson"))));
+        CombinedFindPredicate secondFind = CombinedFindPredicate.narrow(firstFind,
+                List.of(new RiskTagContainsKeywordsPredicate(List.of("LOW", "HIGH"))));
+
+        assertTrue(secondFind.test(alice));
+        // excluded by the predicate that was narrowed down
+        assertFalse(secondFind.test(benson));
+    }
+
+    @Test
+    public void test_cheaperPredicateMatches_costlierPredicateNotTested() {
+        List<String> tested = new ArrayList<>();
+        Predicate<Person> unknownCostPredicate = person -> {
+            tested.add("unknown");
+            return true;
+        };
+        CombinedFindPredicate predicate = CombinedFindPredicate.narrow(null, List.of(unknownCostPredicate,
+                new RiskTagContainsKeywordsPredicate(List.of("LOW"))));
+
+        assertTrue(predicate.test(alice));
+        assertEquals(Collections.emptyList(), tested);
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class IncomeContainsKeywordsPredicateTest {
+
+    @Test
+    public void test_incomeSatisfiesComparison_returnsTrue() {
+        Person person = new PersonBuilder().withIncome("5000").build();
+        assertTrue(new IncomeContainsKeywordsPredicate(Collections.singletonList("5000"), ">").test(person));
+        assertTrue(new IncomeContainsKeywordsPredicate(Arrays.asList("100", "6000"), "<").test(person));
+        assertTrue(new IncomeContainsKeywordsPredicate(Arrays.asList("100", "5000"), "=").test(person));
+    }
+
+    @Test
+    public void test_incomeDoesNotSatisfyComparison_returnsFalse() {
+        Person person = new PersonBuilder().withIncome("5000").build();
+        assertFalse(new IncomeContainsKeywordsPredicate(Collections.singletonList("5001"), ">").test(person));
+        assertFalse(new IncomeContainsKeywordsPredicate(Collections.singletonList("4999"), "<").test(person));
+        assertFalse(new IncomeContainsKeywordsPredicate(Arrays.asList("100", "6000"), "=").test(person));
+    }
+
+    @Test
+    public void test_incomeTooLargeForLong_comparedByDigits() {
+        Person person = new PersonBuilder().withIncome("99999999999999999999").build();
+        assertTrue(new IncomeContainsKeywordsPredicate(
+                Collections.singletonList("99999999999999999999"), "=").test(person));
+        assertFalse(new IncomeContainsKeywordsPredicate(
+                Collections.singletonList("99999999999999999998"), "=").test(person));
+        assertFalse(new IncomeContainsKeywordsPredicate(
+                Collections.singletonList("100000000000000000000"), ">").test(person));
+        assertTrue(new IncomeContainsKeywordsPredicate(
+                Collections.singletonList(String.valueOf(Long.MAX_VALUE)), ">").test(person));
+    }
+}
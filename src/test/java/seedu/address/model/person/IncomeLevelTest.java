@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -37,5 +38,31 @@ public class IncomeLevelTest {
         assertTrue(Income.isValidIncome("231231")); // $ + numbers
         assertTrue(Income.isValidIncome("0")); // $ + numbers
         assertTrue(Income.isValidIncome("999")); // $ + numbers
+        assertTrue(Income.isValidIncome("999999999999999999")); // 18 digits
+        assertTrue(Income.isValidIncome("99999999999999999999")); // too large for a long
+    }
+
+    @Test
+    public void convertIncomeToLong_validValue_returnsValue() {
+        assertEquals(0, new Income("0").convertIncomeToLong());
+        assertEquals(999999999999999999L, new Income("999999999999999999").convertIncomeToLong());
+    }
+
+    @Test
+    public void convertIncomeToLong_tooLargeForLong_returnsMaxValue() {
+        Income large = new Income("99999999999999999999");
+        assertEquals(Long.MAX_VALUE, large.convertIncomeToLong());
+        assertEquals("$99999999999999999999", large.value);
+    }
+
+    @Test
+    public void compareTo_amountsTooLargeForLong_comparedByDigits() {
+        Income large = new Income("99999999999999999999");
+        Income larger = new Income("100000000000000000000");
+        assertTrue(large.compareTo(larger) < 0);
+        assertTrue(larger.compareTo(large) > 0);
+        assertEquals(0, large.compareTo(new Income("99999999999999999999")));
+        assertTrue(new Income(String.valueOf(Long.MAX_VALUE)).compareTo(large) < 0);
+        assertTrue(new Income("1000").compareTo(large) < 0);
     }
 }
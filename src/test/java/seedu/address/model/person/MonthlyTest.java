@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -37,5 +38,31 @@ public class MonthlyTest {
         assertTrue(Monthly.isValidMonthly("231231")); // $ + numbers
         assertTrue(Monthly.isValidMonthly("0")); // $ + numbers
         assertTrue(Monthly.isValidMonthly("999")); // $ + numbers
+        assertTrue(Monthly.isValidMonthly("999999999999999999")); // 18 digits
+        assertTrue(Monthly.isValidMonthly("99999999999999999999")); // too large for a long
+    }
+
+    @Test
+    public void convertMonthlyToLong_validValue_returnsValue() {
+        assertEquals(0, new Monthly("0").convertMonthlyToLong());
+        assertEquals(999999999999999999L, new Monthly("999999999999999999").convertMonthlyToLong());
+    }
+
+    @Test
+    public void convertMonthlyToLong_tooLargeForLong_returnsMaxValue() {
+        Monthly large = new Monthly("99999999999999999999");
+        assertEquals(Long.MAX_VALUE, large.convertMonthlyToLong());
+        assertEquals("$99999999999999999999", large.value);
+    }
+
+    @Test
+    public void compareTo_amountsTooLargeForLong_comparedByDigits() {
+        Monthly large = new Monthly("99999999999999999999");
+        Monthly larger = new Monthly("100000000000000000000");
+        assertTrue(large.compareTo(larger) < 0);
+        assertTrue(larger.compareTo(large) > 0);
+        assertEquals(0, large.compareTo(new Monthly("99999999999999999999")));
+        assertTrue(new Monthly(String.valueOf(Long.MAX_VALUE)).compareTo(large) < 0);
+        assertTrue(new Monthly("1000").compareTo(large) < 0);
     }
 }
@@ -10,11 +10,20 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_LOCATION_WESTMA
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -66,6 +75,42 @@ public class UniquePersonListTest {
                 .withLocation(VALID_LOCATION_NUS).build();
         assertFalse(uniquePersonList.containsPersonWithSameAppointmentDateTime(uniqueAppointment));
     }
+
+    @Test
+    public void containsPersonWithSameDateTimeAppointment_appointmentAddedAfterPerson_returnsTrue() {
+        Person testPerson = new PersonBuilder(ALICE).build();
+        uniquePersonList.add(testPerson);
+        Appointment appointment = new AppointmentBuilder().withDateTime(VALID_DATETIME_21_JAN_2023).build();
+        testPerson.getAppointments().add(appointment);
+        assertTrue(uniquePersonList.containsPersonWithSameAppointmentDateTime(appointment));
+    }
+
+    @Test
+    public void containsPersonWithSameDateTimeAppointment_appointmentOwnerRemoved_returnsFalse() {
+        Person testPerson = new PersonBuilder(ALICE).build();
+        Appointment appointment = new AppointmentBuilder().withDateTime(VALID_DATETIME_21_JAN_2023).build();
+        testPerson.getAppointments().add(appointment);
+        uniquePersonList.add(testPerson);
+        uniquePersonList.remove(testPerson);
+        assertFalse(uniquePersonList.containsPersonWithSameAppointmentDateTime(appointment));
+    }
+
+    @Test
+    public void getBookedSlotsBetween_appointmentsInAndOutOfRange_returnsSlotsInRange() {
+        Person testPerson = new PersonBuilder(ALICE).build();
+        Appointment appointmentInRange = new AppointmentBuilder().withDateTime(VALID_DATETIME_21_JAN_2023).build();
+        Appointment appointmentOutOfRange = new AppointmentBuilder().withDateTime("01-01-2030 12:00").build();
+        testPerson.getAppointments().add(appointmentInRange);
+        testPerson.getAppointments().add(appointmentOutOfRange);
+        uniquePersonList.add(testPerson);
+
+        NavigableMap<LocalDateTime, List<Person>> bookedSlots = uniquePersonList.getBookedSlotsBetween(
+                LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2023, 12, 31, 23, 59));
+        assertEquals(1, bookedSlots.size());
+        assertEquals(Collections.singletonList(testPerson),
+                bookedSlots.get(appointmentInRange.getDateTime().getLocalDateTime()));
+    }
+
     @Test
     public void contains_personWithSameIdentityFieldsInList_returnsTrue() {
         uniquePersonList.add(ALICE);
@@ -85,6 +130,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_appendedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB, AMY));
+        assertEquals(Arrays.asList(ALICE, BOB, AMY), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(AMY));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -183,6 +244,29 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_tracksReplacementList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
@@ -194,4 +278,292 @@ public class UniquePersonListTest {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void lookUp_incomeAndMonthlyFinds_matchSamePersonsAsFinds() {
+        Person low = new PersonBuilder().withName("Low Income").withIncome("1000").withMonthly("100").build();
+        Person middle = new PersonBuilder().withName("Middle Income").withIncome("5000").withMonthly("300").build();
+        Person high = new PersonBuilder().withName("High Income").withIncome("99999999999999999999")
+                .withMonthly("300").build();
+        uniquePersonList.setPersons(Arrays.asList(high, low, middle));
+
+        List<FindPredicate> finds = List.of(
+                new IncomeContainsKeywordsPredicate(List.of("5000", "9000"), ">"),
+                new IncomeContainsKeywordsPredicate(List.of("1000", "3000"), "<"),
+                new IncomeContainsKeywordsPredicate(List.of("5000", "1000", "7000"), "="),
+                new MonthlyContainsKeywordsPredicate(List.of("300"), "="),
+                new MonthlyContainsKeywordsPredicate(List.of("200"), "<"));
+        for (FindPredicate find : finds) {
+            PersonMatches matches = uniquePersonList.lookUp(List.of(find)).get();
+            assertEquals(uniquePersonList.asUnmodifiableObservableList().filtered(find), matches.toList());
+        }
+    }
+
+    @Test
+    public void lookUp_incomeFindAfterEdit_matchesEditedIncome() {
+        Person low = new PersonBuilder().withName("Low Income").withIncome("1000").build();
+        Person middle = new PersonBuilder().withName("Middle Income").withIncome("5000").build();
+        uniquePersonList.setPersons(Arrays.asList(low, middle));
+        IncomeContainsKeywordsPredicate atLeast = new IncomeContainsKeywordsPredicate(List.of("5000"), ">");
+        assertEquals(List.of(middle), uniquePersonList.lookUp(List.of(atLeast)).get().toList());
+
+        Person raisedLow = new PersonBuilder(low).withIncome("6000").build();
+        uniquePersonList.setPerson(low, raisedLow);
+        uniquePersonList.remove(middle);
+        assertEquals(List.of(raisedLow), uniquePersonList.lookUp(List.of(atLeast)).get().toList());
+    }
+
+    @Test
+    public void lookUp_notFindPredicate_returnsEmptyOptional() {
+        Predicate<Person> predicate = person -> true;
+        assertEquals(Optional.empty(), uniquePersonList.lookUp(List.of(
+                new NameContainsKeywordsPredicate(List.of("Alice")), predicate)));
+    }
+
+    @Test
+    public void lookUp_keywordFinds_matchSamePersonsAsFinds() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withTags("friends").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").withPhone("98765432").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, benson));
+
+        PersonMatches nameMatches = uniquePersonList.lookUp(List.of(
+                new NameContainsKeywordsPredicate(List.of("pauline", "Carl")))).get();
+        assertEquals(List.of(alice), nameMatches.toList());
+        assertTrue(nameMatches.contains(alice));
+        assertFalse(nameMatches.contains(benson));
+
+        PersonMatches phoneMatches = uniquePersonList.lookUp(List.of(
+                new PhoneContainsKeywordsPredicate(List.of("98765432")))).get();
+        assertEquals(List.of(benson), phoneMatches.toList());
+
+        PersonMatches tagMatches = uniquePersonList.lookUp(List.of(
+                new NormalTagContainsKeywordsPredicate(List.of("FRIENDS")))).get();
+        assertEquals(List.of(alice), tagMatches.toList());
+    }
+
+    @Test
+    public void lookUp_severalFinds_matchesPersonsPassingAnyInListOrder() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").withPhone("98765432").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, benson, carl));
+
+        PersonMatches matches = uniquePersonList.lookUp(List.of(
+                new NameContainsKeywordsPredicate(List.of("Kurz")),
+                new PhoneContainsKeywordsPredicate(List.of("98765432")))).get();
+        assertEquals(List.of(benson, carl), matches.toList());
+    }
+
+    @Test
+    public void lookUp_personsAddedEditedAndRemoved_matchesInListOrder() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withTags("friends").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").withTags("friends").build();
+        NormalTagContainsKeywordsPredicate tagFind = new NormalTagContainsKeywordsPredicate(List.of("friends"));
+        uniquePersonList.setPersons(Arrays.asList(alice, benson));
+        assertEquals(List.of(alice), uniquePersonList.lookUp(List.of(tagFind)).get().toList());
+
+        Person editedBenson = new PersonBuilder(benson).withName("Benson Meyer").withTags("friends").build();
+        uniquePersonList.setPerson(benson, editedBenson);
+        uniquePersonList.add(carl);
+        uniquePersonList.remove(alice);
+        assertEquals(List.of(editedBenson, carl), uniquePersonList.lookUp(List.of(tagFind)).get().toList());
+        assertTrue(uniquePersonList.getListOrder().compare(editedBenson, carl) < 0);
+    }
+
+    @Test
+    public void lookUp_personsReplaced_matchesReplacementPersons() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        uniquePersonList.add(benson);
+        NameContainsKeywordsPredicate find = new NameContainsKeywordsPredicate(List.of("Meier"));
+        assertEquals(List.of(benson), uniquePersonList.lookUp(List.of(find)).get().toList());
+
+        uniquePersonList.setPersons(Arrays.asList(alice, benson));
+        PersonMatches matches = uniquePersonList.lookUp(List.of(find)).get();
+        assertEquals(List.of(benson), matches.toList());
+        assertFalse(matches.contains(alice));
+    }
+
+    @Test
+    public void lookUp_manyPersonsRemoved_matchesRemainingPersons() {
+        NameContainsKeywordsPredicate find = new NameContainsKeywordsPredicate(List.of("Kept"));
+        List<Person> removedPersons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String word = "" + (char) ('A' + i / 26) + (char) ('a' + i % 26);
+            Person person = new PersonBuilder().withName((i % 50 == 0 ? "Kept " : "Removed ") + word).build();
+            uniquePersonList.add(person);
+            if (i % 50 != 0) {
+                removedPersons.add(person);
+            }
+        }
+        assertEquals(4, uniquePersonList.lookUp(List.of(find)).get().toList().size());
+
+        removedPersons.forEach(uniquePersonList::remove);
+        Person addedPerson = new PersonBuilder().withName("Kept Last").build();
+        uniquePersonList.add(addedPerson);
+        List<Person> matches = uniquePersonList.lookUp(List.of(find)).get().toList();
+        assertEquals(uniquePersonList.asUnmodifiableObservableList(), matches);
+        assertEquals(addedPerson, matches.get(4));
+    }
+
+    @Test
+    public void getListOrder_afterSort_ordersByNewPlace() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        uniquePersonList.setPersons(Arrays.asList(benson, alice));
+        assertTrue(uniquePersonList.getListOrder().compare(benson, alice) < 0);
+
+        uniquePersonList.sortPersons(Comparator.comparing(person -> person.getName().toString()));
+        assertTrue(uniquePersonList.getListOrder().compare(alice, benson) < 0);
+        assertEquals(List.of(alice, benson), uniquePersonList.lookUp(List.of(
+                new NameContainsKeywordsPredicate(List.of("Meier", "Alice")))).get().toList());
+    }
+
+    @Test
+    public void getRiskTagCounts_afterEdit_countsEachSegment() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withRiskTag("HIGH").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").withRiskTag("HIGH").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, benson));
+        assertEquals(Map.of("HIGH", 2), uniquePersonList.getRiskTagCounts());
+
+        uniquePersonList.setPerson(benson, new PersonBuilder(benson).withRiskTag("LOW").build());
+        assertEquals(Map.of("HIGH", 1, "LOW", 1), uniquePersonList.getRiskTagCounts());
+    }
+
+    @Test
+    public void lookUp_specialTagFind_matchesSamePersonsAsFind() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withRiskTag("HIGH").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").withRiskTag("LOW").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, benson));
+
+        PersonMatches riskMatches = uniquePersonList.lookUp(List.of(
+                new RiskTagContainsKeywordsPredicate(List.of("high")))).get();
+        assertEquals(List.of(alice), riskMatches.toList());
+    }
+
+    @Test
+    public void lookUp_specialTagFindAfterRemoval_matchesRemainingPersons() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").withClientTag("POTENTIAL").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").withClientTag("POTENTIAL")
+                .withPlanTag("Savings Plan").build();
+        Person carl = new PersonBuilder().withName("Carl Kurz").withClientTag("CURRENT").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, benson, carl));
+        assertEquals(Map.of("CURRENT", 1, "POTENTIAL", 2), uniquePersonList.getClientTagCounts());
+
+        uniquePersonList.remove(alice);
+        assertEquals(Map.of("CURRENT", 1, "POTENTIAL", 1), uniquePersonList.getClientTagCounts());
+        PersonMatches matches = uniquePersonList.lookUp(List.of(
+                new ClientTagContainsKeywordsPredicate(List.of("potential", "current")))).get();
+        assertEquals(List.of(benson, carl), matches.toList());
+        assertEquals(List.of(benson), uniquePersonList.lookUp(List.of(
+                new PlanTagContainsKeywordsPredicate(List.of("savings plan")))).get().toList());
+    }
+
+    @Test
+    public void getNameCompletions_prefix_returnsMatchingWordsInOrder() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person alex = new PersonBuilder().withName("Alex Yeoh").build();
+        uniquePersonList.setPersons(Arrays.asList(alice, alex));
+        uniquePersonList.add(new PersonBuilder().withName("Benson Meier").build());
+
+        assertEquals(List.of("Alex", "Alice"), uniquePersonList.getNameCompletions("al", 8));
+        assertEquals(List.of("Alex"), uniquePersonList.getNameCompletions("AL", 1));
+        assertEquals(List.of("Meier"), uniquePersonList.getNameCompletions("m", 8));
+
+        uniquePersonList.remove(alex);
+        assertEquals(List.of("Alice"), uniquePersonList.getNameCompletions("al", 8));
+        assertEquals(Collections.emptyList(), uniquePersonList.getNameCompletions("y", 8));
+    }
+
+    @Test
+    public void getNameCompletions_indexKeptBeforePersonsReplaced_completesReplacementPersons() {
+        uniquePersonList.keepNameCompletionIndex();
+        uniquePersonList.add(new PersonBuilder().withName("Alex Yeoh").build());
+        uniquePersonList.setPersons(List.of(new PersonBuilder().withName("Alice Pauline").build()));
+
+        assertEquals(List.of("Alice"), uniquePersonList.getNameCompletions("al", 8));
+    }
+
+    @Test
+    public void lookUp_fuzzyNameFind_matchesAndRanksSamePersonsAsFind() {
+        Person john = new PersonBuilder().withName("John Doe").build();
+        Person joan = new PersonBuilder().withName("Joan Tan").build();
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        uniquePersonList.setPersons(Arrays.asList(joan, benson, john));
+        uniquePersonList.remove(benson);
+        uniquePersonList.add(benson);
+
+        FuzzyNameContainsKeywordsPredicate find = new FuzzyNameContainsKeywordsPredicate(List.of("Johm", "Bensen"));
+        PersonMatches matches = uniquePersonList.lookUp(List.of(find)).get();
+        for (Person person : Arrays.asList(john, joan, benson)) {
+            assertEquals(find.test(person), matches.contains(person));
+        }
+        assertEquals(List.of(john, benson), matches.toList());
+
+        Person bensen = new PersonBuilder().withName("Bensen Lim").build();
+        uniquePersonList.add(bensen);
+        List<Person> rankedPersons = Arrays.asList(john, benson, bensen);
+        rankedPersons.sort(matches.getRanking().get());
+        assertEquals(Arrays.asList(bensen, john, benson), rankedPersons);
+    }
+
+    @Test
+    public void getVersion_onlyModificationsIncreaseVersion() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        long version = uniquePersonList.getVersion();
+
+        uniquePersonList.add(alice);
+        assertTrue(uniquePersonList.getVersion() > version);
+
+        version = uniquePersonList.getVersion();
+        uniquePersonList.contains(alice);
+        uniquePersonList.lookUp(List.of(new NameContainsKeywordsPredicate(List.of("Alice"))));
+        assertEquals(version, uniquePersonList.getVersion());
+
+        alice.getAppointments().add(new AppointmentBuilder().withDateTime(VALID_DATETIME_21_JAN_2023).build());
+        assertTrue(uniquePersonList.getVersion() > version);
+    }
+
+    @Test
+    public void getChangesSince_personsChanged_returnsChangesInOrder() {
+        uniquePersonList.add(ALICE);
+        long version = uniquePersonList.getVersion();
+
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(BOB, AMY);
+        uniquePersonList.remove(ALICE);
+        Optional<List<PersonChange>> changes = uniquePersonList.getChangesSince(version);
+        assertEquals(List.of("added " + BOB.getName(), "renamed " + BOB.getName() + " to " + AMY.getName(),
+                "removed " + ALICE.getName()),
+                changes.get().stream().map(PersonChange::toString).collect(Collectors.toList()));
+        assertEquals(Optional.of(List.of()), uniquePersonList.getChangesSince(uniquePersonList.getVersion()));
+        assertEquals(Optional.of(AMY), uniquePersonList.getPerson(AMY.getName()));
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(BOB.getName()));
+    }
+
+    @Test
+    public void getChangesSince_appointmentChangedInPlace_returnsEdit() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        uniquePersonList.add(alice);
+        long version = uniquePersonList.getVersion();
+
+        alice.getAppointments().add(new AppointmentBuilder().withDateTime(VALID_DATETIME_21_JAN_2023).build());
+        List<PersonChange> changes = uniquePersonList.getChangesSince(version).get();
+        assertEquals(1, changes.size());
+        assertEquals("edited " + alice.getName(), changes.get(0).toString());
+    }
+
+    @Test
+    public void getChangesSince_personsReplacedOrUnknownVersion_returnsEmptyOptional() {
+        uniquePersonList.add(ALICE);
+        long version = uniquePersonList.getVersion();
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertEquals(Optional.empty(), uniquePersonList.getChangesSince(version));
+
+        UniquePersonList otherPersonList = new UniquePersonList();
+        otherPersonList.add(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.getChangesSince(otherPersonList.getVersion()));
+    }
 }
@@ -1,7 +1,9 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.model.tag.RiskTag.isRiskTag;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,4 +41,17 @@ public class RiskTagTest {
         RiskTag lowRiskTag = new RiskTag("LOW");
         assertEquals(1, lowRiskTag.getRisk());
     }
+
+    @Test
+    public void of_validName_returnsCanonicalTag() {
+        assertSame(RiskTag.of("HIGH"), RiskTag.of("HIGH"));
+        assertEquals(new RiskTag("LOW"), RiskTag.of("LOW"));
+        assertEquals(2, RiskTag.of("MEDIUM").getRisk());
+    }
+
+    @Test
+    public void of_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> RiskTag.of("high"));
+        assertThrows(NullPointerException.class, () -> RiskTag.of(null));
+    }
 }
@@ -6,10 +6,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.util.exceptions.SortedListException;
 
@@ -129,6 +133,21 @@ public class MaximumSortedListTest {
         }
     }
 
+    @Test
+    public void add_comparable_firesSingleAddedChange() {
+        stubMaximumSortedList.add(comparableStubOne);
+        stubMaximumSortedList.add(comparableStubThree);
+        List<String> changes = new ArrayList<>();
+        stubMaximumSortedList.addListener((ListChangeListener<ComparableStub>) change -> {
+            while (change.next()) {
+                changes.add((change.wasPermutated() ? "permutated " : "added ") + change.getFrom());
+            }
+        });
+
+        stubMaximumSortedList.add(comparableStubTwo);
+        assertEquals(List.of("added 1"), changes);
+    }
+
     @Test
     public void remove_nullComparable_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> stubMaximumSortedList.remove(null));
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("FAP.bin");
+    }
+
+    @Test
+    public void getBinaryFilePath_jsonOrOtherFileName_binaryFileNextToIt() {
+        assertEquals(Paths.get("data", "FAP.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data",
+                "FAP.json")));
+        assertEquals(Paths.get("data", "FAP.bin"), BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data",
+                "FAP")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataConversionException() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_amountsTooLargeForLong_digitsKept() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new PersonBuilder(ALICE).withIncome("99999999999999999999")
+                .withMonthly(String.valueOf(Long.MAX_VALUE)).build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("FAP.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(getTypicalAddressBook());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath) / 2);
+    }
+
+    @Test
+    public void importFromAndExportTo_json_lossless() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("FAP.json"));
+        JsonAddressBookStorage exportedJsonStorage = new JsonAddressBookStorage(testFolder.resolve("exported.json"));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        // nothing to import
+        assertFalse(storage.importFrom(jsonStorage));
+        assertFalse(Files.exists(filePath));
+
+        jsonStorage.saveAddressBook(original);
+        assertTrue(storage.importFrom(jsonStorage));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        assertTrue(storage.exportTo(exportedJsonStorage));
+        assertEquals(original, new AddressBook(exportedJsonStorage.readAddressBook().get()));
+    }
+}
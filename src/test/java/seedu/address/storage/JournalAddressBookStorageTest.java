@@ -0,0 +1,223 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("FAP.json");
+        journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Modify data, save, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_onlyJournalWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+
+        assertEquals(new String(snapshot, StandardCharsets.UTF_8), Files.readString(filePath));
+        // the snapshot record followed by a single put record
+        assertEquals(2, Files.readAllLines(journalPath).size());
+    }
+
+    @Test
+    public void saveAddressBook_personAddedThenEdited_putOnce() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        Person editedHoon = new PersonBuilder(HOON).withPhone("99999999").build();
+        original.setPerson(HOON, editedHoon);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // the snapshot record followed by a put record and a remove record
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personRenamed_compacted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+
+        original.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void exportTo_sameFile_journalAppliedAndDeleted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        new JournalAddressBookStorage(filePath).exportTo(new JsonAddressBookStorage(filePath));
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_compacted() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+
+        original.sortPersons((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalReplayedOnRestart_compactedAcrossSessions() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        int editCount = saveBensonEdits(original, storage, 0, 40);
+        assertEquals(editCount + 1, Files.readAllLines(journalPath).size());
+
+        // the records already in the journal count towards compaction after a restart
+        JournalAddressBookStorage restartedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(restartedStorage.readAddressBook().get()));
+        editCount = saveBensonEdits(original, restartedStorage, editCount, 25);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    /**
+     * Edits BENSON's phone in {@code addressBook} {@code count} times, saving to {@code storage} after each edit.
+     * Returns the number of edits made so far, starting from {@code previousEditCount}.
+     */
+    private static int saveBensonEdits(AddressBook addressBook, JournalAddressBookStorage storage,
+            int previousEditCount, int count) throws Exception {
+        for (int i = previousEditCount; i < previousEditCount + count; i++) {
+            Person benson = addressBook.getPersonList().stream()
+                    .filter(person -> person.isSamePerson(BENSON)).findFirst().get();
+            addressBook.setPerson(benson, new PersonBuilder(BENSON).withPhone(String.valueOf(90000000 + i)).build());
+            storage.saveAddressBook(addressBook);
+        }
+        return previousEditCount + count;
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshot_backupAndItsJournalRead() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        AddressBook beforeCompaction = new AddressBook(original);
+
+        original.sortPersons((first, second) -> second.getName().fullName.compareTo(first.getName().fullName));
+        storage.saveAddressBook(original);
+        Files.writeString(filePath, "not json");
+
+        assertEquals(beforeCompaction,
+                new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        Files.writeString(journalPath, "{\"type\":\"remove\",\"na", StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage restartedStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(restartedStorage.readAddressBook().get()));
+
+        // the damaged journal is replaced on the next save
+        restartedStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonAdaptedPersonLoaderTest {
+
+    private static final int PERSON_COUNT = JsonAdaptedPersonLoader.BATCH_SIZE * 2 + 1;
+
+    @Test
+    public void toAddressBook_manyBatches_personsInOrder() throws Exception {
+        List<Person> persons = createPersons();
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader();
+        for (Person person : persons) {
+            loader.add(new JsonAdaptedPerson(person));
+        }
+        assertEquals(persons, loader.toAddressBook().getPersonList());
+    }
+
+    @Test
+    public void finish_consumer_batchesPassedAsConverted() throws Exception {
+        List<Person> persons = createPersons();
+        List<List<Person>> batches = new ArrayList<>();
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader(batches::add);
+        for (Person person : persons) {
+            loader.add(new JsonAdaptedPerson(person));
+        }
+        assertEquals(2, batches.size());
+        loader.finish();
+
+        assertEquals(3, batches.size());
+        List<Person> loadedPersons = new ArrayList<>();
+        batches.forEach(loadedPersons::addAll);
+        assertEquals(persons, loadedPersons);
+    }
+
+    @Test
+    public void toAddressBook_duplicateInLaterBatch_throwsIllegalValueException() throws Exception {
+        List<Person> persons = createPersons();
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader();
+        for (Person person : persons) {
+            loader.add(new JsonAdaptedPerson(person));
+        }
+        loader.add(new JsonAdaptedPerson(persons.get(0)));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                loader::toAddressBook);
+    }
+
+    @Test
+    public void toAddressBook_invalidPerson_throwsIllegalValueException() throws Exception {
+        JsonAdaptedPersonLoader loader = new JsonAdaptedPersonLoader();
+        Person person = new PersonBuilder().build();
+        loader.add(new JsonAdaptedPerson(person));
+        loader.add(new JsonAdaptedPerson(null, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, null, null, null, null, null, null, null));
+        assertThrows(IllegalValueException.class, loader::toAddressBook);
+    }
+
+    private static List<Person> createPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder().withName("Person " + toLetters(i)).build());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code number} spelt in letters, as names cannot contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,8 +10,11 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +22,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +91,67 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_corruptedFile_previousAddressBookRead() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        AddressBook modified = new AddressBook(original);
+        modified.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(modified);
+
+        Files.writeString(filePath, "{\"persons\": [");
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_loader_personsLoadedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        RecordingLoader loader = new RecordingLoader();
+        assertFalse(jsonAddressBookStorage.readAddressBook(loader));
+
+        AddressBook original = getTypicalAddressBook();
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertTrue(jsonAddressBookStorage.readAddressBook(loader));
+        assertEquals(original.getPersonList(), loader.persons);
+    }
+
+    @Test
+    public void readAddressBook_loaderAndCorruptedFile_discardedAndPreviousAddressBookLoaded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(filePath, Files.readString(filePath).replace(ALICE.getName().fullName, "Al!ce"));
+
+        RecordingLoader loader = new RecordingLoader();
+        assertTrue(jsonAddressBookStorage.readAddressBook(loader));
+        assertEquals(1, loader.discardCount);
+        assertEquals(original.getPersonList(), loader.persons);
+    }
+
+    /**
+     * An {@code AddressBookLoader} that keeps the persons loaded.
+     */
+    private static class RecordingLoader implements AddressBookLoader {
+        private final List<Person> persons = new ArrayList<>();
+        private int discardCount;
+
+        @Override
+        public void load(List<Person> persons) {
+            this.persons.addAll(persons);
+        }
+
+        @Override
+        public void discard() {
+            persons.clear();
+            discardCount++;
+        }
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
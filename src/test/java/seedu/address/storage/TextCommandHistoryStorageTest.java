@@ -1,9 +1,11 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.CommandHistory.MAXIMUM_MAX_COMMAND_HISTORY_SIZE;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
@@ -62,6 +64,19 @@ public class TextCommandHistoryStorageTest {
         assertEquals(original, new CommandHistory(readBack));
 
     }
+    @Test
+    public void readCommandHistory_beyondMaximumMaxSize_latestCommandsRead() throws Exception {
+        Path filePath = testFolder.resolve("TempCommandHistory.txt");
+        List<String> commandHistoryList = new ArrayList<>();
+        for (int i = 0; i < MAXIMUM_MAX_COMMAND_HISTORY_SIZE + 2; i++) {
+            commandHistoryList.add("find " + i);
+        }
+        Files.write(filePath, commandHistoryList);
+
+        ReadOnlyCommandHistory readBack = new TextCommandHistoryStorage(filePath).readCommandHistory(filePath);
+        assertEquals(commandHistoryList.subList(2, commandHistoryList.size()), readBack.getCommandHistoryList());
+    }
+
     @Test
     public void saveCommandHistory_nullCommandHistory_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveCommandHistory(null, "SomeFile.txt"));
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.AppointmentBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class WriteBehindStorageTest {
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private CountingAddressBookStorage addressBookStorage;
+    private WriteBehindStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookStorage = new CountingAddressBookStorage(testFolder.resolve("ab"));
+        storage = createStorage(addressBookStorage);
+    }
+
+    private WriteBehindStorage createStorage(AddressBookStorage addressBookStorage) {
+        return new WriteBehindStorage(new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new TextCommandHistoryStorage(testFolder.resolve("ch"))));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_addressBookWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.flush();
+        ReadOnlyAddressBook retrieved = new JsonAddressBookStorage(testFolder.resolve("ab")).readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_unchanged_writtenOnce() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        assertEquals(1, addressBookStorage.writeCount);
+    }
+
+    @Test
+    public void saveAddressBook_personsChangedBetweenSaves_changedPersonsWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        Person amy = new PersonBuilder(AMY).build();
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        addressBook.addPerson(amy);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Kurzweil").build());
+        amy.getAppointments().add(new AppointmentBuilder().build());
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        ReadOnlyAddressBook retrieved = new JsonAddressBookStorage(testFolder.resolve("ab")).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(retrieved));
+        assertEquals(1, retrieved.getPerson(amy.getName()).get().getAppointments().size());
+    }
+
+    @Test
+    public void saveAddressBook_appointmentAddedInPlace_writtenAgain() throws Exception {
+        Person person = new PersonBuilder().build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(person);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        person.getAppointments().add(new AppointmentBuilder().build());
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        assertEquals(2, addressBookStorage.writeCount);
+        ReadOnlyAddressBook retrieved = new JsonAddressBookStorage(testFolder.resolve("ab")).readAddressBook().get();
+        assertEquals(1, retrieved.getPersonList().get(0).getAppointments().size());
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        });
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAfterWriteFailureReported_writtenAgain() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBookStorage.failuresLeft = 1;
+        storage.saveAddressBook(addressBook);
+        assertThrows(IOException.class, DUMMY_IO_EXCEPTION.getMessage(), storage::flush);
+
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        assertEquals(2, addressBookStorage.writeCount);
+        ReadOnlyAddressBook retrieved = new JsonAddressBookStorage(testFolder.resolve("ab")).readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(retrieved));
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts the address books written, the first {@code failuresLeft} of
+     * which fail.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int writeCount;
+        private int failuresLeft;
+
+        private CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeCount++;
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw DUMMY_IO_EXCEPTION;
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package seedu.address.testutil;
 
-import static seedu.address.model.person.Person.MAXIMUM_NUM_OF_APPOINTMENTS;
-
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.model.appointment.Appointment;
+import seedu.address.model.appointment.AppointmentList;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.Income;
@@ -60,7 +59,7 @@ public class PersonBuilder {
         income = new Income(DEFAULT_INCOME);
         monthly = new Monthly(DEFAULT_MONTHLY);
         tags = new HashSet<>();
-        appointments = new MaximumSortedList<>(MAXIMUM_NUM_OF_APPOINTMENTS);
+        appointments = new AppointmentList();
     }
 
     /**
@@ -78,7 +77,7 @@ public class PersonBuilder {
         clientTag = personToCopy.getClientTag();
         income = personToCopy.getIncome();
         tags = new HashSet<>(personToCopy.getTags());
-        appointments = new MaximumSortedList<>(personToCopy.getAppointments());
+        appointments = new AppointmentList(personToCopy.getAppointments());
     }
 
     /**